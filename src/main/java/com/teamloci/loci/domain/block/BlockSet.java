@@ -0,0 +1,37 @@
+package com.teamloci.loci.domain.block;
+
+import com.teamloci.loci.global.util.LongHashSet;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class BlockSet {
+
+    private final LongHashSet blockedByMe;
+    private final LongHashSet blockedMe;
+
+    public BlockSet(long[] blockedByMe, long[] blockedMe) {
+        this.blockedByMe = LongHashSet.of(blockedByMe);
+        this.blockedMe = LongHashSet.of(blockedMe);
+    }
+
+    public boolean hasBlocked(Long userId) {
+        return blockedByMe.contains(userId);
+    }
+
+    public boolean isBlockedBy(Long userId) {
+        return blockedMe.contains(userId);
+    }
+
+    public boolean isBlockedEitherWay(Long userId) {
+        return hasBlocked(userId) || isBlockedBy(userId);
+    }
+
+    public boolean isEmpty() {
+        return blockedByMe.isEmpty() && blockedMe.isEmpty();
+    }
+
+    public List<Long> getBlockedUserIds() {
+        return Arrays.stream(blockedByMe.toArray()).boxed().toList();
+    }
+}
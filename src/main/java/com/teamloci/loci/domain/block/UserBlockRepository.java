@@ -17,4 +17,7 @@ public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
 
     @Query("SELECT ub.blocked.id FROM UserBlock ub WHERE ub.blocker.id = :blockerId")
     List<Long> findBlockedUserIdsByBlockerId(@Param("blockerId") Long blockerId);
+
+    @Query("SELECT ub.blocker.id FROM UserBlock ub WHERE ub.blocked.id = :blockedId")
+    List<Long> findBlockerIdsByBlockedId(@Param("blockedId") Long blockedId);
 }
\ No newline at end of file
@@ -1,15 +1,25 @@
 package com.teamloci.loci.domain.block;
 
+import com.teamloci.loci.domain.post.service.FriendTimelineStore;
 import com.teamloci.loci.domain.user.User;
 import com.teamloci.loci.domain.user.UserRepository;
+import com.teamloci.loci.global.cache.CacheGeneration;
 import com.teamloci.loci.global.error.CustomException;
 import com.teamloci.loci.global.error.ErrorCode;
+import com.teamloci.loci.global.util.AfterCommit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -17,6 +27,14 @@ public class UserBlockService {
 
     private final UserBlockRepository userBlockRepository;
     private final UserRepository userRepository;
+    private final FriendTimelineStore friendTimelineStore;
+    private final RedisTemplate<String, long[]> longArrayRedisTemplate;
+    private final CacheGeneration cacheGeneration;
+
+    private static final String BLOCKED_BY_ME_PREFIX = "blocks:out:";
+    private static final String BLOCKED_ME_PREFIX = "blocks:in:";
+    private static final String GENERATION_PREFIX = "blocks:gen:";
+    private static final Duration BLOCK_SET_TTL = Duration.ofHours(6);
 
     @Transactional
     public boolean toggleBlock(Long blockerId, Long blockedId) {
@@ -29,6 +47,9 @@ public class UserBlockService {
         User blocked = userRepository.findById(blockedId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
+        friendTimelineStore.evictAfterCommit(blockerId);
+        evictBlockSetAfterCommit(blockerId, blockedId);
+
         return userBlockRepository.findByBlockerAndBlocked(blocker, blocked)
                 .map(userBlock -> {
                     userBlockRepository.delete(userBlock);
@@ -44,6 +65,84 @@ public class UserBlockService {
     }
 
     public List<Long> getBlockedUserIds(Long blockerId) {
-        return userBlockRepository.findBlockedUserIdsByBlockerId(blockerId);
+        return getBlockSet(blockerId).getBlockedUserIds();
+    }
+
+    public BlockSet getBlockSet(Long userId) {
+        String generation;
+        try {
+            generation = cacheGeneration.current(GENERATION_PREFIX + userId);
+        } catch (Exception e) {
+            log.warn("[Block] 차단 목록 캐시 조회 실패: userId={}, {}", userId, e.getMessage());
+            return loadBlockSet(userId);
+        }
+
+        String outKey = BLOCKED_BY_ME_PREFIX + userId + ":" + generation;
+        String inKey = BLOCKED_ME_PREFIX + userId + ":" + generation;
+
+        try {
+            List<Object> cached = longArrayRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    operations.opsForValue().get(outKey);
+                    operations.opsForValue().get(inKey);
+                    return null;
+                }
+            });
+
+            if (cached.get(0) instanceof long[] blockedByMe && cached.get(1) instanceof long[] blockedMe) {
+                return new BlockSet(blockedByMe, blockedMe);
+            }
+        } catch (Exception e) {
+            log.warn("[Block] 차단 목록 캐시 조회 실패: userId={}, {}", userId, e.getMessage());
+        }
+
+        long[] blockedByMe = toArray(userBlockRepository.findBlockedUserIdsByBlockerId(userId));
+        long[] blockedMe = toArray(userBlockRepository.findBlockerIdsByBlockedId(userId));
+
+        try {
+            longArrayRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    operations.opsForValue().set(outKey, blockedByMe, BLOCK_SET_TTL);
+                    operations.opsForValue().set(inKey, blockedMe, BLOCK_SET_TTL);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[Block] 차단 목록 캐시 저장 실패: userId={}, {}", userId, e.getMessage());
+        }
+
+        return new BlockSet(blockedByMe, blockedMe);
+    }
+
+    private BlockSet loadBlockSet(Long userId) {
+        return new BlockSet(
+                toArray(userBlockRepository.findBlockedUserIdsByBlockerId(userId)),
+                toArray(userBlockRepository.findBlockerIdsByBlockedId(userId)));
+    }
+
+    private void evictBlockSetAfterCommit(Long blockerId, Long blockedId) {
+        AfterCommit.run(() -> {
+            evictBlockSet(blockerId);
+            evictBlockSet(blockedId);
+        });
+    }
+
+    private void evictBlockSet(Long userId) {
+        try {
+            String previous = String.valueOf(cacheGeneration.bump(GENERATION_PREFIX + userId) - 1);
+            longArrayRedisTemplate.delete(List.of(
+                    BLOCKED_BY_ME_PREFIX + userId + ":" + previous,
+                    BLOCKED_ME_PREFIX + userId + ":" + previous));
+        } catch (Exception e) {
+            log.error("[Block] 차단 목록 캐시 삭제 실패: userId={}", userId, e);
+        }
+    }
+
+    private long[] toArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
     }
 }
\ No newline at end of file
@@ -87,6 +87,7 @@ public class ChatService {
         String receiverFcmToken = receiver.getFcmToken();
         if (StringUtils.hasText(receiverFcmToken)) {
             notificationService.sendDirectMessageNotification(
+                    receiver.getId(),
                     receiverFcmToken,
                     senderNickname,
                     messageText
@@ -0,0 +1,87 @@
+package com.teamloci.loci.domain.friend;
+
+import com.teamloci.loci.global.cache.CacheGeneration;
+import com.teamloci.loci.global.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendGraphCache {
+
+    private static final String KEY_PREFIX = "friends:ids:";
+    private static final String GENERATION_PREFIX = "friends:ids:gen:";
+    private static final Duration TTL = Duration.ofHours(6);
+
+    private final FriendshipEdgeService friendshipEdgeService;
+    private final RedisTemplate<String, long[]> longArrayRedisTemplate;
+    private final CacheGeneration cacheGeneration;
+
+    public List<Long> getFriendIds(Long userId) {
+        long[] ids = getFriendIdArray(userId);
+
+        List<Long> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    public long[] getFriendIdArray(Long userId) {
+        String key = null;
+
+        try {
+            key = key(userId, cacheGeneration.current(GENERATION_PREFIX + userId));
+            long[] cached = longArrayRedisTemplate.opsForValue().get(key);
+            if (cached != null) return cached;
+        } catch (Exception e) {
+            log.warn("[FriendGraph] 친구 목록 캐시 조회 실패: userId={}, {}", userId, e.getMessage());
+        }
+
+        long[] ids = friendshipEdgeService.findActiveFriendIds(userId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+
+        if (key == null) return ids;
+
+        try {
+            longArrayRedisTemplate.opsForValue().set(key, ids, TTL);
+        } catch (Exception e) {
+            log.warn("[FriendGraph] 친구 목록 캐시 저장 실패: userId={}, {}", userId, e.getMessage());
+        }
+        return ids;
+    }
+
+    public boolean isFriend(Long userId, Long targetUserId) {
+        return Arrays.binarySearch(getFriendIdArray(userId), targetUserId) >= 0;
+    }
+
+    public void evictAfterCommit(Collection<Long> userIds) {
+        List<Long> targets = userIds.stream().distinct().toList();
+        AfterCommit.run(() -> targets.forEach(this::evict));
+    }
+
+    public void evictAfterCommit(Long... userIds) {
+        evictAfterCommit(Arrays.asList(userIds));
+    }
+
+    private void evict(Long userId) {
+        try {
+            long generation = cacheGeneration.bump(GENERATION_PREFIX + userId);
+            longArrayRedisTemplate.delete(key(userId, String.valueOf(generation - 1)));
+        } catch (Exception e) {
+            log.error("[FriendGraph] 친구 목록 캐시 삭제 실패: userId={}", userId, e);
+        }
+    }
+
+    private String key(Long userId, String generation) {
+        return KEY_PREFIX + userId + ":" + generation;
+    }
+}
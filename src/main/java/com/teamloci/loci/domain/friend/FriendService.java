@@ -1,24 +1,22 @@
 package com.teamloci.loci.domain.friend;
 
 import com.google.i18n.phonenumbers.PhoneNumberUtil;
-import com.teamloci.loci.domain.intimacy.entity.FriendshipIntimacy;
 import com.teamloci.loci.domain.intimacy.entity.IntimacyType;
 import com.teamloci.loci.domain.intimacy.service.IntimacyService;
 import com.teamloci.loci.domain.notification.NotificationService;
 import com.teamloci.loci.domain.notification.NotificationType;
+import com.teamloci.loci.domain.post.service.FriendTimelineStore;
 import com.teamloci.loci.domain.user.User;
 import com.teamloci.loci.domain.user.UserDto;
 import com.teamloci.loci.domain.user.UserRepository;
 import com.teamloci.loci.domain.user.UserStatus;
-import com.teamloci.loci.domain.user.UserActivityService;
+import com.teamloci.loci.domain.user.UserCardLoader;
 import com.teamloci.loci.global.error.CustomException;
 import com.teamloci.loci.global.error.ErrorCode;
 import com.teamloci.loci.global.util.AesUtil;
-import com.teamloci.loci.global.util.RelationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -38,11 +36,16 @@ public class FriendService {
 
     private final UserRepository userRepository;
     private final FriendshipRepository friendshipRepository;
+    private final FriendshipEdgeService friendshipEdgeService;
     private final NotificationService notificationService;
     private final UserContactRepository userContactRepository;
     private final AesUtil aesUtil;
-    private final UserActivityService userActivityService;
     private final IntimacyService intimacyService;
+    private final FriendTimelineStore friendTimelineStore;
+    private final FriendGraphCache friendGraphCache;
+    private final UserCardLoader userCardLoader;
+    private final SocialGraph socialGraph;
+    private final ApplicationEventPublisher eventPublisher;
 
     private record ContactInfo(String name, String e164PhoneNumber) {}
 
@@ -144,10 +147,6 @@ public class FriendService {
         return buildUserResponses(userId, matchedUsers);
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "activeFriends", key = "#myUserId"),
-            @CacheEvict(value = "activeFriends", key = "#requesterId")
-    })
     @Transactional
     public void acceptFriendRequest(Long myUserId, Long requesterId) {
         User me = userRepository.findByIdWithLock(myUserId)
@@ -155,7 +154,7 @@ public class FriendService {
         User requester = userRepository.findByIdWithLock(requesterId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        Friendship friendship = friendshipRepository.findFriendshipBetween(myUserId, requesterId)
+        Friendship friendship = friendshipEdgeService.findFriendshipBetween(myUserId, requesterId)
                 .orElseThrow(() -> new CustomException(ErrorCode.FRIEND_REQUEST_NOT_FOUND));
 
         if (!friendship.getReceiver().getId().equals(myUserId)) {
@@ -166,15 +165,18 @@ public class FriendService {
             throw new CustomException(ErrorCode.FRIEND_REQUEST_ALREADY_EXISTS);
         }
 
-        long myRealFriendCount = friendshipRepository.countFriends(myUserId);
-        long requesterRealFriendCount = friendshipRepository.countFriends(requesterId);
+        long myRealFriendCount = friendshipEdgeService.countFriends(myUserId);
+        long requesterRealFriendCount = friendshipEdgeService.countFriends(requesterId);
         if (myRealFriendCount >= MAX_FRIEND_LIMIT) throw new CustomException(ErrorCode.FRIEND_LIMIT_EXCEEDED);
         if (requesterRealFriendCount >= MAX_FRIEND_LIMIT) throw new CustomException(ErrorCode.TARGET_FRIEND_LIMIT_EXCEEDED);
 
         friendship.accept();
+        eventPublisher.publishEvent(new FriendshipChangedEvent(requesterId, myUserId, FriendshipStatus.FRIENDSHIP));
 
         userRepository.increaseFriendCount(myUserId);
         userRepository.increaseFriendCount(requesterId);
+        friendGraphCache.evictAfterCommit(myUserId, requesterId);
+        friendTimelineStore.evictAfterCommit(myUserId, requesterId);
 
         intimacyService.accumulatePoint(myUserId, requesterId, IntimacyType.FRIEND_MADE, null);
 
@@ -187,23 +189,24 @@ public class FriendService {
         );
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "activeFriends", key = "#myUserId"),
-            @CacheEvict(value = "activeFriends", key = "#targetUserId")
-    })
     @Transactional
     public void sendFriendRequest(Long myUserId, Long targetUserId) {
         if (myUserId.equals(targetUserId)) throw new CustomException(ErrorCode.SELF_FRIEND_REQUEST);
 
+        String relation = socialGraph.relationStatus(myUserId, targetUserId);
+        if ("FRIEND".equals(relation) || "PENDING_SENT".equals(relation)) {
+            throw new CustomException(ErrorCode.FRIEND_REQUEST_ALREADY_EXISTS);
+        }
+
         User me = userRepository.findByIdWithLock(myUserId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         User target = userRepository.findByIdWithLock(targetUserId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        Optional<Friendship> existing = friendshipRepository.findFriendshipBetween(myUserId, targetUserId);
+        Optional<Friendship> existing = friendshipEdgeService.findFriendshipBetween(myUserId, targetUserId);
 
-        long myRealFriendCount = friendshipRepository.countFriends(myUserId);
-        long targetRealFriendCount = friendshipRepository.countFriends(targetUserId);
+        long myRealFriendCount = friendshipEdgeService.countFriends(myUserId);
+        long targetRealFriendCount = friendshipEdgeService.countFriends(targetUserId);
 
         if (existing.isPresent()) {
             Friendship f = existing.get();
@@ -217,8 +220,11 @@ public class FriendService {
                 if (targetRealFriendCount >= MAX_FRIEND_LIMIT) throw new CustomException(ErrorCode.TARGET_FRIEND_LIMIT_EXCEEDED);
 
                 f.accept();
+                eventPublisher.publishEvent(new FriendshipChangedEvent(targetUserId, myUserId, FriendshipStatus.FRIENDSHIP));
                 userRepository.increaseFriendCount(myUserId);
                 userRepository.increaseFriendCount(targetUserId);
+                friendGraphCache.evictAfterCommit(myUserId, targetUserId);
+                friendTimelineStore.evictAfterCommit(myUserId, targetUserId);
                 return;
             }
         }
@@ -233,6 +239,7 @@ public class FriendService {
                 .build();
 
         friendshipRepository.save(friendship);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(myUserId, targetUserId, FriendshipStatus.PENDING));
 
         notificationService.send(
                 target,
@@ -243,13 +250,9 @@ public class FriendService {
         );
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "activeFriends", key = "#myUserId"),
-            @CacheEvict(value = "activeFriends", key = "#targetUserId")
-    })
     @Transactional
     public void deleteFriendship(Long myUserId, Long targetUserId) {
-        Friendship friendship = friendshipRepository.findFriendshipBetween(myUserId, targetUserId)
+        Friendship friendship = friendshipEdgeService.findFriendshipBetween(myUserId, targetUserId)
                 .orElseThrow(() -> new CustomException(ErrorCode.FRIEND_REQUEST_NOT_FOUND));
 
         if (friendship.getStatus() == FriendshipStatus.FRIENDSHIP) {
@@ -258,13 +261,13 @@ public class FriendService {
         }
 
         friendshipRepository.delete(friendship);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(myUserId, targetUserId, null));
+        friendGraphCache.evictAfterCommit(myUserId, targetUserId);
+        friendTimelineStore.evictAfterCommit(myUserId, targetUserId);
     }
 
     public List<UserDto.UserResponse> getMyFriends(Long myUserId) {
-        List<User> friends = friendshipRepository.findAllFriendsWithUsers(myUserId)
-                .stream()
-                .map(f -> f.getRequester().getId().equals(myUserId) ? f.getReceiver() : f.getRequester())
-                .collect(Collectors.toList());
+        List<User> friends = friendshipEdgeService.findFriends(myUserId);
 
         return buildUserResponses(myUserId, friends);
     }
@@ -313,36 +316,6 @@ public class FriendService {
     private List<UserDto.UserResponse> buildUserResponses(Long myUserId, List<User> users) {
         if (users.isEmpty()) return List.of();
 
-        List<Long> userIds = users.stream().map(User::getId).toList();
-
-        List<Friendship> friendships = friendshipRepository.findAllRelationsBetween(myUserId, userIds);
-        Map<Long, Friendship> friendshipMap = friendships.stream()
-                .collect(Collectors.toMap(
-                        f -> f.getRequester().getId().equals(myUserId) ? f.getReceiver().getId() : f.getRequester().getId(),
-                        f -> f
-                ));
-
-        Map<Long, UserActivityService.UserStats> statsMap = userActivityService.getUserStatsMap(userIds);
-        Map<Long, FriendshipIntimacy> myIntimacyMap = intimacyService.getIntimacyMap(myUserId, userIds);
-
-        return users.stream().map(user -> {
-            var stats = statsMap.getOrDefault(user.getId(), new UserActivityService.UserStats(0,0,0,0,0));
-
-            String status = "NONE";
-            if (user.getId().equals(myUserId)) {
-                status = "SELF";
-            } else {
-                Friendship f = friendshipMap.get(user.getId());
-                status = RelationUtil.resolveStatus(f, myUserId);
-            }
-
-            UserDto.UserResponse response = UserDto.UserResponse.of(
-                    user, status, stats.friendCount(), stats.postCount(), stats.streakCount(), stats.visitedPlaceCount()
-            );
-
-            response.applyIntimacyInfo(myIntimacyMap.get(user.getId()), stats.totalIntimacyLevel());
-
-            return response;
-        }).collect(Collectors.toList());
+        return userCardLoader.toResponses(myUserId, users);
     }
 }
\ No newline at end of file
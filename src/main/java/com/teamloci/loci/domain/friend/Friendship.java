@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "friendships", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"requester_id", "receiver_id"})
+        @UniqueConstraint(columnNames = {"requester_id", "receiver_id"}),
+        @UniqueConstraint(name = "uk_friendship_pair", columnNames = {"user_low_id", "user_high_id"})
 })
 public class Friendship {
 
@@ -31,6 +32,12 @@ public class Friendship {
     @JoinColumn(name = "receiver_id", nullable = false)
     private User receiver;
 
+    @Column(name = "user_low_id")
+    private Long userLowId;
+
+    @Column(name = "user_high_id")
+    private Long userHighId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private FriendshipStatus status;
@@ -47,6 +54,8 @@ public class Friendship {
     public Friendship(User requester, User receiver, FriendshipStatus status) {
         this.requester = requester;
         this.receiver = receiver;
+        this.userLowId = Math.min(requester.getId(), receiver.getId());
+        this.userHighId = Math.max(requester.getId(), receiver.getId());
         this.status = status;
     }
 
@@ -0,0 +1,12 @@
+package com.teamloci.loci.domain.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FriendshipChangedEvent {
+    private Long requesterId;
+    private Long receiverId;
+    private FriendshipStatus status;
+}
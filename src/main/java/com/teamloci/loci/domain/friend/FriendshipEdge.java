@@ -0,0 +1,29 @@
+package com.teamloci.loci.domain.friend;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "friendship_edges", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_friendship_edge", columnNames = {"user_id", "friend_id"})
+})
+public class FriendshipEdge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "friend_id", nullable = false)
+    private Long friendId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FriendshipEdgeStatus status;
+}
@@ -0,0 +1,57 @@
+package com.teamloci.loci.domain.friend;
+
+import com.teamloci.loci.domain.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FriendshipEdgeRepository extends JpaRepository<FriendshipEdge, Long> {
+
+    @Query("SELECT e FROM FriendshipEdge e WHERE e.userId = :userId AND e.friendId IN :friendIds")
+    List<FriendshipEdge> findByUserIdAndFriendIdIn(@Param("userId") Long userId, @Param("friendIds") List<Long> friendIds);
+
+    @Query("SELECT COUNT(e) FROM FriendshipEdge e WHERE e.userId = :userId AND e.status = 'FRIEND'")
+    long countFriends(@Param("userId") Long userId);
+
+    @Query("SELECT u FROM FriendshipEdge e JOIN User u ON u.id = e.friendId " +
+            "WHERE e.userId = :userId AND e.status = 'FRIEND'")
+    List<User> findFriends(@Param("userId") Long userId);
+
+    @Query("SELECT e.friendId FROM FriendshipEdge e JOIN User u ON u.id = e.friendId " +
+            "WHERE e.userId = :userId AND e.status = 'FRIEND' AND u.status = 'ACTIVE'")
+    List<Long> findActiveFriendIds(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO friendship_edges (user_id, friend_id, status)
+        VALUES (:userId, :friendId, :status)
+        ON DUPLICATE KEY UPDATE status = VALUES(status)
+    """, nativeQuery = true)
+    void upsert(@Param("userId") Long userId, @Param("friendId") Long friendId, @Param("status") String status);
+
+    @Modifying
+    @Query(value = "DELETE FROM friendship_edges WHERE user_id = :userId AND friend_id = :friendId", nativeQuery = true)
+    void deleteEdge(@Param("userId") Long userId, @Param("friendId") Long friendId);
+
+    @Modifying
+    @Query(value = "DELETE FROM friendship_edges WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM friendship_edges WHERE friend_id = :friendId", nativeQuery = true)
+    void deleteByFriendId(@Param("friendId") Long friendId);
+
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO friendship_edges (user_id, friend_id, status)
+        SELECT requester_id, receiver_id, IF(status = 'FRIENDSHIP', 'FRIEND', 'PENDING_SENT')
+        FROM friendships WHERE id >= :fromId AND id < :toId
+        UNION ALL
+        SELECT receiver_id, requester_id, IF(status = 'FRIENDSHIP', 'FRIEND', 'PENDING_RECEIVED')
+        FROM friendships WHERE id >= :fromId AND id < :toId
+    """, nativeQuery = true)
+    int backfillInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
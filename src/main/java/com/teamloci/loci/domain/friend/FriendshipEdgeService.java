@@ -0,0 +1,202 @@
+package com.teamloci.loci.domain.friend;
+
+import com.teamloci.loci.domain.user.User;
+import com.teamloci.loci.global.util.BackfillCoordinator;
+import com.teamloci.loci.global.util.RelationUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 정규화 쌍(user_low_id, user_high_id)과 friendship_edges 를 관리한다.
+ * 기존 행의 백필이 끝나기 전까지 조회는 requester/receiver 조건으로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FriendshipEdgeService {
+
+    public static final String BACKFILL_NAME = "friendship-edges";
+
+    private static final long BACKFILL_CHUNK_SIZE = 1000;
+
+    private final FriendshipRepository friendshipRepository;
+    private final FriendshipEdgeRepository friendshipEdgeRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final BackfillCoordinator backfillCoordinator;
+
+    @Value("${feature.backfill-friendship-edges:true}")
+    private boolean backfillOnStartup;
+
+    public boolean isReady() {
+        return backfillCoordinator.isComplete(BACKFILL_NAME);
+    }
+
+    public Optional<Friendship> findFriendshipBetween(Long userA, Long userB) {
+        if (!isReady()) return friendshipRepository.findFriendshipByParticipants(userA, userB);
+        return friendshipRepository.findFriendshipBetween(userA, userB);
+    }
+
+    public List<Object[]> findEdgeBetween(Long userA, Long userB) {
+        if (!isReady()) return friendshipRepository.findEdgeByParticipants(userA, userB);
+        return friendshipRepository.findEdgeBetween(userA, userB);
+    }
+
+    public Map<Long, String> relationStatuses(Long myUserId, Collection<Long> targetUserIds) {
+        Map<Long, String> result = new HashMap<>();
+        if (targetUserIds.isEmpty()) return result;
+
+        if (!isReady()) {
+            friendshipRepository.findAllRelationsBetween(myUserId, List.copyOf(targetUserIds)).forEach(f -> {
+                Long partnerId = f.getRequester().getId().equals(myUserId) ? f.getReceiver().getId() : f.getRequester().getId();
+                result.put(partnerId, RelationUtil.resolveStatus(f, myUserId));
+            });
+        } else {
+            friendshipEdgeRepository.findByUserIdAndFriendIdIn(myUserId, List.copyOf(targetUserIds))
+                    .forEach(e -> result.put(e.getFriendId(), e.getStatus().name()));
+        }
+
+        targetUserIds.forEach(id -> result.putIfAbsent(id, "NONE"));
+        return result;
+    }
+
+    public List<User> findFriends(Long userId) {
+        if (!isReady()) {
+            return friendshipRepository.findAllFriendsWithUsers(userId).stream()
+                    .map(f -> f.getRequester().getId().equals(userId) ? f.getReceiver() : f.getRequester())
+                    .toList();
+        }
+        return friendshipEdgeRepository.findFriends(userId);
+    }
+
+    public List<Long> findActiveFriendIds(Long userId) {
+        if (!isReady()) return friendshipRepository.findActiveFriendIdsByUserId(userId);
+        return friendshipEdgeRepository.findActiveFriendIds(userId);
+    }
+
+    public long countFriends(Long userId) {
+        if (!isReady()) return friendshipRepository.countFriends(userId);
+        return friendshipEdgeRepository.countFriends(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleFriendshipChanged(FriendshipChangedEvent event) {
+        Long requesterId = event.getRequesterId();
+        Long receiverId = event.getReceiverId();
+
+        if (event.getStatus() == null) {
+            friendshipEdgeRepository.deleteEdge(requesterId, receiverId);
+            friendshipEdgeRepository.deleteEdge(receiverId, requesterId);
+        } else if (event.getStatus() == FriendshipStatus.FRIENDSHIP) {
+            friendshipEdgeRepository.upsert(requesterId, receiverId, FriendshipEdgeStatus.FRIEND.name());
+            friendshipEdgeRepository.upsert(receiverId, requesterId, FriendshipEdgeStatus.FRIEND.name());
+        } else {
+            friendshipEdgeRepository.upsert(requesterId, receiverId, FriendshipEdgeStatus.PENDING_SENT.name());
+            friendshipEdgeRepository.upsert(receiverId, requesterId, FriendshipEdgeStatus.PENDING_RECEIVED.name());
+        }
+    }
+
+    public void deleteAllForUser(Long userId) {
+        friendshipEdgeRepository.deleteByUserId(userId);
+        friendshipEdgeRepository.deleteByFriendId(userId);
+    }
+
+    public int backfill() {
+        Long maxId = friendshipRepository.findMaxId();
+        if (maxId == null) return 0;
+
+        log.info("[FriendshipEdge] 친구 관계 인덱스 백필 시작 (maxId={})", maxId);
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        long pairs = 0L;
+        long edges = 0L;
+        int failedChunks = dedupeReversedPairs(template);
+        for (long fromId = 0L; fromId <= maxId; fromId += BACKFILL_CHUNK_SIZE) {
+            final long chunkFrom = fromId;
+            final long chunkTo = fromId + BACKFILL_CHUNK_SIZE;
+            try {
+                int[] rows = template.execute(status -> new int[]{
+                        friendshipRepository.backfillCanonicalPairs(chunkFrom, chunkTo),
+                        friendshipEdgeRepository.backfillInRange(chunkFrom, chunkTo)
+                });
+                if (rows != null) {
+                    pairs += rows[0];
+                    edges += rows[1];
+                }
+            } catch (Exception e) {
+                failedChunks++;
+                log.error("[FriendshipEdge] 친구 관계 인덱스 백필 실패: id {} ~ {}", chunkFrom, chunkTo, e);
+            }
+        }
+
+        log.info("[FriendshipEdge] 친구 관계 인덱스 백필 완료: 정규화 {}건, 간선 {}건, 실패 구간 {}개", pairs, edges, failedChunks);
+        return failedChunks;
+    }
+
+    /**
+     * A→B 와 B→A 가 모두 있는 쌍은 정규화하면 uk_friendship_pair 를 어기므로 백필 전에 하나만 남긴다.
+     * 친구 관계인 행을, 없으면 가장 먼저 만들어진 행을 남기고, 간선은 남긴 행으로 백필에서 다시 만든다.
+     * 정리에 실패한 쌍의 수를 돌려준다.
+     */
+    private int dedupeReversedPairs(TransactionTemplate template) {
+        Map<String, List<Object[]>> rowsByPair = new LinkedHashMap<>();
+        for (Object[] row : friendshipRepository.findReversedDuplicates()) {
+            long requesterId = ((Number) row[1]).longValue();
+            long receiverId = ((Number) row[2]).longValue();
+            String pair = Math.min(requesterId, receiverId) + ":" + Math.max(requesterId, receiverId);
+            rowsByPair.computeIfAbsent(pair, k -> new ArrayList<>()).add(row);
+        }
+
+        int failedPairs = 0;
+        for (Map.Entry<String, List<Object[]>> entry : rowsByPair.entrySet()) {
+            List<Object[]> rows = entry.getValue();
+            Object[] keep = rows.stream()
+                    .filter(row -> FriendshipStatus.FRIENDSHIP.name().equals(String.valueOf(row[3])))
+                    .findFirst()
+                    .orElse(rows.get(0));
+            List<Long> removeIds = rows.stream()
+                    .filter(row -> row != keep)
+                    .map(row -> ((Number) row[0]).longValue())
+                    .toList();
+            long userA = ((Number) keep[1]).longValue();
+            long userB = ((Number) keep[2]).longValue();
+
+            log.warn("[FriendshipEdge] 역방향 중복 친구 관계 정리: pair={}, 유지 id={}, 삭제 id={}",
+                    entry.getKey(), keep[0], removeIds);
+            try {
+                template.executeWithoutResult(status -> {
+                    friendshipRepository.deleteAllByIdInBatch(removeIds);
+                    friendshipEdgeRepository.deleteEdge(userA, userB);
+                    friendshipEdgeRepository.deleteEdge(userB, userA);
+                });
+            } catch (Exception e) {
+                failedPairs++;
+                log.error("[FriendshipEdge] 역방향 중복 친구 관계 정리 실패: pair={}", entry.getKey(), e);
+            }
+        }
+        return failedPairs;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) return;
+
+        backfillCoordinator.runOnce(BACKFILL_NAME, () -> {
+            int failedChunks = backfill();
+            if (failedChunks > 0) {
+                throw new IllegalStateException("친구 관계 인덱스 백필 중 " + failedChunks + "개 구간이 실패했습니다.");
+            }
+        });
+    }
+}
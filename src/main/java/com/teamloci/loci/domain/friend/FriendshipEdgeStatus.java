@@ -0,0 +1,7 @@
+package com.teamloci.loci.domain.friend;
+
+public enum FriendshipEdgeStatus {
+    FRIEND,
+    PENDING_SENT,
+    PENDING_RECEIVED
+}
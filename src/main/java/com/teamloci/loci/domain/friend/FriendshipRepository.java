@@ -1,8 +1,9 @@
 package com.teamloci.loci.domain.friend;
 
 import com.teamloci.loci.domain.user.User;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -11,14 +12,17 @@ import java.util.Optional;
 
 public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
 
-    @Query("SELECT f FROM Friendship f " +
-            "WHERE (f.requester.id = :userId OR f.receiver.id = :userId)")
-    List<Friendship> findAllFriendshipsByUserId(@Param("userId") Long userId);
+    @Query("SELECT f FROM Friendship f WHERE f.userLowId = :lowId AND f.userHighId = :highId")
+    Optional<Friendship> findByCanonicalPair(@Param("lowId") Long lowId, @Param("highId") Long highId);
+
+    default Optional<Friendship> findFriendshipBetween(Long userA, Long userB) {
+        return findByCanonicalPair(Math.min(userA, userB), Math.max(userA, userB));
+    }
 
     @Query("SELECT f FROM Friendship f " +
             "WHERE (f.requester.id = :userA AND f.receiver.id = :userB) " +
             "OR (f.requester.id = :userB AND f.receiver.id = :userA)")
-    Optional<Friendship> findFriendshipBetween(@Param("userA") Long userA, @Param("userB") Long userB);
+    Optional<Friendship> findFriendshipByParticipants(@Param("userA") Long userA, @Param("userB") Long userB);
 
     @Query("SELECT f FROM Friendship f " +
             "WHERE (f.requester.id = :myUserId AND f.receiver.id IN :targetUserIds) " +
@@ -31,10 +35,15 @@ public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
             "AND f.status = 'FRIENDSHIP'")
     List<Friendship> findAllFriendsWithUsers(@Param("userId") Long userId);
 
-    @Query("SELECT f.receiver FROM Friendship f WHERE f.requester.id = :userId AND f.status = 'FRIENDSHIP' AND f.receiver.status = 'ACTIVE' " +
+    @Query("SELECT f.receiver.id FROM Friendship f WHERE f.requester.id = :userId AND f.status = 'FRIENDSHIP' AND f.receiver.status = 'ACTIVE' " +
             "UNION " +
-            "SELECT f.requester FROM Friendship f WHERE f.receiver.id = :userId AND f.status = 'FRIENDSHIP' AND f.requester.status = 'ACTIVE'")
-    List<User> findActiveFriendsByUserId(@Param("userId") Long userId);
+            "SELECT f.requester.id FROM Friendship f WHERE f.receiver.id = :userId AND f.status = 'FRIENDSHIP' AND f.requester.status = 'ACTIVE'")
+    List<Long> findActiveFriendIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(f) FROM Friendship f " +
+            "WHERE (f.requester.id = :userId OR f.receiver.id = :userId) " +
+            "AND f.status = 'FRIENDSHIP'")
+    long countFriends(@Param("userId") Long userId);
 
     @Query("SELECT f FROM Friendship f JOIN FETCH f.requester " +
             "WHERE f.receiver.id = :userId AND f.status = 'PENDING'")
@@ -44,33 +53,44 @@ public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
             "WHERE f.requester.id = :userId AND f.status = 'PENDING'")
     List<Friendship> findSentRequests(@Param("userId") Long userId);
 
-    @Query("SELECT COUNT(f) FROM Friendship f " +
-            "WHERE (f.requester.id = :userId OR f.receiver.id = :userId) " +
-            "AND f.status = 'FRIENDSHIP'")
-    long countFriends(@Param("userId") Long userId);
+    @Query("SELECT f.id, f.requester.id, f.receiver.id, f.status FROM Friendship f " +
+            "WHERE f.id > :afterId ORDER BY f.id")
+    List<Object[]> findEdgesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT f.requester.id, f.receiver.id, f.status FROM Friendship f " +
+            "WHERE f.userLowId = :lowId AND f.userHighId = :highId")
+    List<Object[]> findEdgeByCanonicalPair(@Param("lowId") Long lowId, @Param("highId") Long highId);
+
+    default List<Object[]> findEdgeBetween(Long userA, Long userB) {
+        return findEdgeByCanonicalPair(Math.min(userA, userB), Math.max(userA, userB));
+    }
+
+    @Query("SELECT f.requester.id, f.receiver.id, f.status FROM Friendship f " +
+            "WHERE (f.requester.id = :userA AND f.receiver.id = :userB) " +
+            "OR (f.requester.id = :userB AND f.receiver.id = :userA)")
+    List<Object[]> findEdgeByParticipants(@Param("userA") Long userA, @Param("userB") Long userB);
+
+    @Query("SELECT MAX(f.id) FROM Friendship f")
+    Long findMaxId();
 
     @Query(value = """
-        SELECT user_id, COUNT(*) 
-        FROM (
-            SELECT requester_id AS user_id FROM friendships WHERE requester_id IN :userIds AND status = 'FRIENDSHIP'
-            UNION ALL
-            SELECT receiver_id AS user_id FROM friendships WHERE receiver_id IN :userIds AND status = 'FRIENDSHIP'
-        ) AS all_friends 
-        GROUP BY user_id
-        """, nativeQuery = true)
-    List<Object[]> countFriendsByUserIds(@Param("userIds") List<Long> userIds);
-
-    @Cacheable(value = "activeFriends", key = "#userId")
-    @Query("SELECT f.receiver FROM Friendship f " +
-            "WHERE f.requester.id = :userId " +
-            "AND f.status = 'FRIENDSHIP' " +
-            "AND f.receiver.status = 'ACTIVE' " +
-            "UNION " +
-            "SELECT f.requester FROM Friendship f " +
-            "WHERE f.receiver.id = :userId " +
-            "AND f.status = 'FRIENDSHIP' " +
-            "AND f.requester.status = 'ACTIVE'")
-    List<User> findAllActiveFriends(@Param("userId") Long userId);
+        SELECT f.id, f.requester_id, f.receiver_id, f.status
+        FROM friendships f
+        WHERE EXISTS (
+            SELECT 1 FROM friendships r
+            WHERE r.requester_id = f.receiver_id AND r.receiver_id = f.requester_id
+        )
+        ORDER BY f.created_at, f.id
+    """, nativeQuery = true)
+    List<Object[]> findReversedDuplicates();
+
+    @Modifying
+    @Query(value = """
+        UPDATE friendships
+        SET user_low_id = LEAST(requester_id, receiver_id), user_high_id = GREATEST(requester_id, receiver_id)
+        WHERE id >= :fromId AND id < :toId AND user_low_id IS NULL
+    """, nativeQuery = true)
+    int backfillCanonicalPairs(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
     void deleteByRequesterOrReceiver(User requester, User receiver);
 }
\ No newline at end of file
@@ -0,0 +1,268 @@
+package com.teamloci.loci.domain.friend;
+
+import com.teamloci.loci.global.cache.CacheInvalidationPublisher;
+import com.teamloci.loci.global.util.AfterCommit;
+import com.teamloci.loci.global.util.LongHashSet;
+import com.teamloci.loci.global.util.RelationUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class SocialGraph implements MessageListener {
+
+    public static final String CHANNEL = "social-graph:invalidation";
+
+    private static final String DELIMITER = "|";
+    private static final String PAIR = "P";
+    private static final String USER = "U";
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    private record Adjacency(LongHashSet friends, LongHashSet pendingOut, LongHashSet pendingIn) {
+        boolean isEmpty() {
+            return friends.isEmpty() && pendingOut.isEmpty() && pendingIn.isEmpty();
+        }
+    }
+
+    private static final Adjacency EMPTY = new Adjacency(new LongHashSet(), new LongHashSet(), new LongHashSet());
+
+    private final FriendshipRepository friendshipRepository;
+    private final FriendshipEdgeService friendshipEdgeService;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String nodeId;
+
+    private volatile Map<Long, Adjacency> graph = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private volatile boolean reloading;
+    private final Set<List<Long>> touchedDuringReload = ConcurrentHashMap.newKeySet();
+
+    public SocialGraph(FriendshipRepository friendshipRepository,
+                       FriendshipEdgeService friendshipEdgeService,
+                       StringRedisTemplate redisTemplate,
+                       RedisMessageListenerContainer listenerContainer,
+                       CacheInvalidationPublisher cacheInvalidationPublisher) {
+        this.friendshipRepository = friendshipRepository;
+        this.friendshipEdgeService = friendshipEdgeService;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.nodeId = cacheInvalidationPublisher.getNodeId();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public String relationStatus(Long myUserId, Long targetUserId) {
+        if (!ready) {
+            return RelationUtil.resolveStatus(
+                    friendshipEdgeService.findFriendshipBetween(myUserId, targetUserId).orElse(null), myUserId);
+        }
+
+        Adjacency adj = graph.getOrDefault(myUserId, EMPTY);
+        if (adj.friends().contains(targetUserId)) return "FRIEND";
+        if (adj.pendingOut().contains(targetUserId)) return "PENDING_SENT";
+        if (adj.pendingIn().contains(targetUserId)) return "PENDING_RECEIVED";
+        return "NONE";
+    }
+
+    public Map<Long, String> relationStatuses(Long myUserId, Collection<Long> targetUserIds) {
+        if (!ready) return friendshipEdgeService.relationStatuses(myUserId, targetUserIds);
+
+        Map<Long, String> result = new HashMap<>();
+        targetUserIds.forEach(id -> result.put(id, relationStatus(myUserId, id)));
+        return result;
+    }
+
+    public boolean isFriend(Long userId, Long targetUserId) {
+        return "FRIEND".equals(relationStatus(userId, targetUserId));
+    }
+
+    public long friendCount(Long userId) {
+        if (!ready) return friendshipEdgeService.countFriends(userId);
+        return graph.getOrDefault(userId, EMPTY).friends().size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFriendshipChanged(FriendshipChangedEvent event) {
+        applyEdge(event.getRequesterId(), event.getReceiverId(), event.getStatus());
+        publish(PAIR + DELIMITER + event.getRequesterId() + DELIMITER + event.getReceiverId());
+    }
+
+    public void removeUserAfterCommit(Long userId) {
+        AfterCommit.run(() -> {
+            removeUser(userId);
+            publish(USER + DELIMITER + userId);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + DELIMITER);
+        if (parts.length < 3 || nodeId.equals(parts[0])) return;
+
+        try {
+            if (PAIR.equals(parts[1]) && parts.length == 4) {
+                refreshPair(Long.valueOf(parts[2]), Long.valueOf(parts[3]));
+            } else if (USER.equals(parts[1])) {
+                removeUser(Long.valueOf(parts[2]));
+            }
+        } catch (Exception e) {
+            log.error("[SocialGraph] 원격 변경 반영 실패: {}", Arrays.toString(parts), e);
+        }
+    }
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${social-graph.resync-interval-ms:1800000}",
+            fixedDelayString = "${social-graph.resync-interval-ms:1800000}")
+    public synchronized void reload() {
+        long startedAt = System.currentTimeMillis();
+        reloading = true;
+        touchedDuringReload.clear();
+
+        try {
+            Map<Long, Adjacency> loaded = new ConcurrentHashMap<>();
+            Map<Long, LongHashSet[]> builders = new HashMap<>();
+            long edges = 0;
+            long lastId = 0L;
+            while (true) {
+                List<Object[]> rows = friendshipRepository.findEdgesAfter(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                if (rows.isEmpty()) break;
+
+                for (Object[] row : rows) {
+                    long requesterId = (Long) row[1];
+                    long receiverId = (Long) row[2];
+                    LongHashSet[] requester = builders.computeIfAbsent(requesterId, k -> newBuilder());
+                    LongHashSet[] receiver = builders.computeIfAbsent(receiverId, k -> newBuilder());
+                    if (row[3] == FriendshipStatus.FRIENDSHIP) {
+                        requester[0].add(receiverId);
+                        receiver[0].add(requesterId);
+                    } else {
+                        requester[1].add(receiverId);
+                        receiver[2].add(requesterId);
+                    }
+                }
+
+                edges += rows.size();
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+            }
+            builders.forEach((userId, sets) -> loaded.put(userId, new Adjacency(sets[0], sets[1], sets[2])));
+
+            graph = loaded;
+            ready = true;
+            log.info("[SocialGraph] 친구 관계 {}건, 유저 {}명 적재 완료 ({}ms)",
+                    edges, loaded.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("[SocialGraph] 친구 관계 적재 실패", e);
+        } finally {
+            reloading = false;
+        }
+
+        List<List<Long>> touched = new ArrayList<>(touchedDuringReload);
+        touchedDuringReload.clear();
+        touched.forEach(pair -> refreshPair(pair.get(0), pair.get(1)));
+    }
+
+    private void refreshPair(Long userA, Long userB) {
+        List<Object[]> rows = friendshipEdgeService.findEdgeBetween(userA, userB);
+        if (rows.isEmpty()) {
+            applyEdge(userA, userB, null);
+            return;
+        }
+        Object[] row = rows.get(0);
+        applyEdge((Long) row[0], (Long) row[1], (FriendshipStatus) row[2]);
+    }
+
+    private void applyEdge(Long requesterId, Long receiverId, FriendshipStatus status) {
+        if (reloading) {
+            touchedDuringReload.add(List.of(requesterId, receiverId));
+        }
+
+        graph.compute(requesterId, (k, adj) -> update(adj, receiverId, status, true));
+        graph.compute(receiverId, (k, adj) -> update(adj, requesterId, status, false));
+    }
+
+    private Adjacency update(Adjacency adj, long partnerId, FriendshipStatus status, boolean isRequester) {
+        Adjacency current = adj == null ? EMPTY : adj;
+        LongHashSet friends = without(current.friends(), partnerId);
+        LongHashSet pendingOut = without(current.pendingOut(), partnerId);
+        LongHashSet pendingIn = without(current.pendingIn(), partnerId);
+
+        if (status == FriendshipStatus.FRIENDSHIP) {
+            friends = with(friends, partnerId);
+        } else if (status == FriendshipStatus.PENDING) {
+            if (isRequester) {
+                pendingOut = with(pendingOut, partnerId);
+            } else {
+                pendingIn = with(pendingIn, partnerId);
+            }
+        }
+
+        Adjacency updated = new Adjacency(friends, pendingOut, pendingIn);
+        return updated.isEmpty() ? null : updated;
+    }
+
+    private void removeUser(Long userId) {
+        Adjacency removed = graph.remove(userId);
+        if (removed == null) return;
+
+        Set<Long> partners = new HashSet<>();
+        for (long id : removed.friends().toArray()) partners.add(id);
+        for (long id : removed.pendingOut().toArray()) partners.add(id);
+        for (long id : removed.pendingIn().toArray()) partners.add(id);
+
+        partners.forEach(partnerId -> graph.compute(partnerId, (k, adj) -> update(adj, userId, null, false)));
+    }
+
+    private void publish(String payload) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + payload);
+        } catch (Exception e) {
+            log.error("[SocialGraph] 변경 메시지 발행 실패: {}", payload, e);
+        }
+    }
+
+    private static LongHashSet[] newBuilder() {
+        return new LongHashSet[]{new LongHashSet(), new LongHashSet(), new LongHashSet()};
+    }
+
+    private static LongHashSet with(LongHashSet set, long value) {
+        if (set.contains(value)) return set;
+        LongHashSet copy = LongHashSet.of(set.toArray());
+        copy.add(value);
+        return copy;
+    }
+
+    private static LongHashSet without(LongHashSet set, long value) {
+        if (!set.contains(value)) return set;
+        long[] values = set.toArray();
+        LongHashSet copy = new LongHashSet(values.length);
+        for (long v : values) {
+            if (v != value) copy.add(v);
+        }
+        return copy;
+    }
+}
@@ -1,6 +1,7 @@
 package com.teamloci.loci.domain.intimacy.controller;
 
 import com.teamloci.loci.domain.intimacy.dto.IntimacyDto;
+import com.teamloci.loci.domain.intimacy.service.IntimacyLeaderboard;
 import com.teamloci.loci.domain.intimacy.service.IntimacyService;
 import com.teamloci.loci.global.auth.AuthenticatedUser;
 import com.teamloci.loci.global.common.CustomResponse;
@@ -19,6 +20,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "Intimacy", description = "친밀도 관리 API")
@@ -28,6 +30,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class IntimacyController {
 
     private final IntimacyService intimacyService;
+    private final IntimacyLeaderboard intimacyLeaderboard;
+
+    private static final int MAX_RANKING_SIZE = 100;
 
     private Long getUserId(AuthenticatedUser user) {
         if (user == null) throw new CustomException(ErrorCode.UNAUTHORIZED);
@@ -79,4 +84,32 @@ public class IntimacyController {
                 intimacyService.getIntimacyDetail(getUserId(user), targetUserId)
         ));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "나와 친한 친구 랭킹",
+            description = "나와의 누적 친밀도 점수가 높은 순으로 친구 목록을 조회합니다. (최대 100명)")
+    @GetMapping("/ranking/friends")
+    public ResponseEntity<CustomResponse<IntimacyDto.FriendRankingResponse>> getFriendRanking(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "조회할 인원 수") @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(CustomResponse.ok(
+                intimacyLeaderboard.getFriendRanking(getUserId(user), clampSize(size))
+        ));
+    }
+
+    @Operation(summary = "전체 친밀도 레벨 총합 랭킹",
+            description = "모든 유저의 친밀도 레벨 총합 순위와 나의 순위를 조회합니다. (최대 100명)")
+    @GetMapping("/ranking/total")
+    public ResponseEntity<CustomResponse<IntimacyDto.TotalRankingResponse>> getTotalRanking(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "조회할 인원 수") @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(CustomResponse.ok(
+                intimacyLeaderboard.getTotalRanking(getUserId(user), clampSize(size))
+        ));
+    }
+
+    private int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_RANKING_SIZE));
+    }
+}
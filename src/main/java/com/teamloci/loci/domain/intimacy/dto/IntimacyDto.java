@@ -5,6 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 public class IntimacyDto {
 
     @Getter
@@ -27,4 +29,46 @@ public class IntimacyDto {
         @Schema(description = "나의 '레벨 총합' (모든 친구와의 레벨 합계)", example = "5")
         private Integer myTotalLevel;
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Builder
+    @Schema(description = "친밀도 랭킹 항목")
+    public static class RankingEntry {
+
+        @Schema(description = "유저 ID", example = "2")
+        private Long userId;
+
+        @Schema(description = "순위 (1부터 시작)", example = "1")
+        private int rank;
+
+        @Schema(description = "누적 친밀도 점수 (전체 랭킹에서는 null)", example = "250")
+        private Long score;
+
+        @Schema(description = "친밀도 레벨 (전체 랭킹에서는 레벨 총합)", example = "3")
+        private int level;
+    }
+
+    @Getter
+    @Builder
+    @Schema(description = "나와 가장 친한 친구 랭킹")
+    public static class FriendRankingResponse {
+
+        @Schema(description = "친밀도 점수 내림차순 목록")
+        private List<RankingEntry> rankings;
+    }
+
+    @Getter
+    @Builder
+    @Schema(description = "전체 유저 레벨 총합 랭킹")
+    public static class TotalRankingResponse {
+
+        @Schema(description = "레벨 총합 내림차순 목록")
+        private List<RankingEntry> rankings;
+
+        @Schema(description = "나의 순위 (랭킹에 없으면 null)", example = "42")
+        private Long myRank;
+
+        @Schema(description = "나의 레벨 총합", example = "15")
+        private Integer myTotalLevel;
+    }
+}
@@ -45,12 +45,4 @@ public class FriendshipIntimacy extends BaseTimeEntity {
         this.totalScore = 0L;
         this.level = 1;
     }
-
-    public void addScore(int score) {
-        this.totalScore += score;
-    }
-
-    public void updateLevel(int level) {
-        this.level = level;
-    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.teamloci.loci.domain.user.User;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -19,6 +20,17 @@ public interface FriendshipIntimacyRepository extends JpaRepository<FriendshipIn
     @Query("SELECT fi FROM FriendshipIntimacy fi WHERE fi.userAId = :userAId AND fi.userBId = :userBId")
     Optional<FriendshipIntimacy> findByUserAIdAndUserBIdWithLock(@Param("userAId") Long userAId, @Param("userBId") Long userBId);
 
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO friendship_intimacies (user_id_a, user_id_b, total_score, level, created_at, updated_at)
+        VALUES (:userAId, :userBId, 0, 1, NOW(), NOW())
+    """, nativeQuery = true)
+    void insertIfAbsent(@Param("userAId") Long userAId, @Param("userBId") Long userBId);
+
+    @Modifying
+    @Query(value = "UPDATE friendship_intimacies SET level = :level, updated_at = NOW() WHERE id = :id AND level < :level", nativeQuery = true)
+    int raiseLevel(@Param("id") Long id, @Param("level") int level);
+
     @Query("SELECT COALESCE(SUM(fi.level), 0) FROM FriendshipIntimacy fi WHERE fi.userAId = :userId OR fi.userBId = :userId")
     Integer sumLevelByUserId(@Param("userId") Long userId);
 
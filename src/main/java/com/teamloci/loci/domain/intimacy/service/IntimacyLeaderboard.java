@@ -0,0 +1,306 @@
+package com.teamloci.loci.domain.intimacy.service;
+
+import com.teamloci.loci.domain.block.BlockSet;
+import com.teamloci.loci.domain.block.UserBlockService;
+import com.teamloci.loci.domain.friend.SocialGraph;
+import com.teamloci.loci.domain.intimacy.dto.IntimacyDto;
+import com.teamloci.loci.domain.intimacy.entity.FriendshipIntimacy;
+import com.teamloci.loci.domain.intimacy.repository.FriendshipIntimacyRepository;
+import com.teamloci.loci.domain.user.UserRepository;
+import com.teamloci.loci.global.counter.DeltaBufferFlusher;
+import com.teamloci.loci.global.counter.RedisDeltaBuffer;
+import com.teamloci.loci.global.util.AfterCommit;
+import com.teamloci.loci.global.util.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntimacyLeaderboard {
+
+    private static final String USER_KEY_PREFIX = "leaderboard:intimacy:user:";
+    private static final String TOTAL_KEY = "leaderboard:intimacy:total";
+    private static final String TOTAL_REBUILD_KEY = "leaderboard:intimacy:total:rebuild";
+    private static final String USER_REBUILD_KEY_PREFIX = "leaderboard:intimacy:rebuild:user:";
+    private static final Duration USER_REBUILD_TTL = Duration.ofMinutes(5);
+    private static final String LOCK_KEY = "leaderboard:intimacy:lock";
+    private static final String LOADED_MARKER = "-";
+    private static final Duration USER_TTL = Duration.ofDays(30);
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int RANKING_FETCH_FACTOR = 2;
+
+    private static final RedisScript<Long> ZADD_IF_LOADED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> ZINCRBY_IF_LOADED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FriendshipIntimacyRepository intimacyRepository;
+    private final UserRepository userRepository;
+    private final IntimacyLevelTable levelTable;
+    private final SocialGraph socialGraph;
+    private final UserBlockService userBlockService;
+    private final DeltaBufferFlusher deltaBufferFlusher;
+    private final RedisLock redisLock;
+
+    public void updatePairScore(Long u1, Long u2, long totalScore) {
+        try {
+            String score = String.valueOf(totalScore);
+            redisTemplate.execute(ZADD_IF_LOADED_SCRIPT, List.of(userKey(u1)), score, String.valueOf(u2));
+            redisTemplate.execute(ZADD_IF_LOADED_SCRIPT, List.of(userKey(u2)), score, String.valueOf(u1));
+        } catch (Exception e) {
+            log.warn("친밀도 랭킹 갱신 실패: u1={}, u2={}, {}", u1, u2, e.getMessage());
+            evict(List.of(userKey(u1), userKey(u2)));
+        }
+    }
+
+    public void updatePairScoreAfterCommit(Long u1, Long u2, long totalScore) {
+        AfterCommit.run(() -> updatePairScore(u1, u2, totalScore));
+    }
+
+    public void increaseTotalLevelAfterCommit(Long actorId, Long targetId, int levelDiff) {
+        AfterCommit.run(() -> {
+            try {
+                String diff = String.valueOf(levelDiff);
+                redisTemplate.execute(ZINCRBY_IF_LOADED_SCRIPT, List.of(TOTAL_KEY), diff, String.valueOf(actorId));
+                redisTemplate.execute(ZINCRBY_IF_LOADED_SCRIPT, List.of(TOTAL_KEY), diff, String.valueOf(targetId));
+            } catch (Exception e) {
+                log.warn("전체 친밀도 랭킹 갱신 실패: actorId={}, targetId={}, {}", actorId, targetId, e.getMessage());
+            }
+        });
+    }
+
+    public void removeUserAfterCommit(Long userId, Collection<Long> partnerIds) {
+        List<Long> partners = List.copyOf(partnerIds);
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.delete(userKey(userId));
+                redisTemplate.opsForZSet().remove(TOTAL_KEY, String.valueOf(userId));
+                partners.forEach(partnerId ->
+                        redisTemplate.opsForZSet().remove(userKey(partnerId), String.valueOf(userId)));
+            } catch (Exception e) {
+                log.warn("탈퇴 유저 친밀도 랭킹 정리 실패: userId={}, {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 랭킹 집합에는 친구를 끊었거나 차단한 상대가 남아 있을 수 있으므로 읽을 때 한 번 더 거른다.
+     */
+    public IntimacyDto.FriendRankingResponse getFriendRanking(Long userId, int size) {
+        String key = userKey(userId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            rebuildUser(userId);
+        }
+
+        BlockSet blockSet = userBlockService.getBlockSet(userId);
+        List<IntimacyDto.RankingEntry> entries = new ArrayList<>();
+        int fetchSize = Math.max(size * RANKING_FETCH_FACTOR, size + 1);
+        long offset = 0;
+        while (entries.size() < size) {
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    redisTemplate.opsForZSet().reverseRangeByScoreWithScores(key, 0, Double.POSITIVE_INFINITY, offset, fetchSize);
+            if (tuples == null || tuples.isEmpty()) break;
+
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                Long partnerId = Long.valueOf(tuple.getValue());
+                if (!isVisiblePartner(userId, partnerId, blockSet)) continue;
+
+                long score = tuple.getScore() == null ? 0L : tuple.getScore().longValue();
+                entries.add(IntimacyDto.RankingEntry.builder()
+                        .userId(partnerId)
+                        .rank(entries.size() + 1)
+                        .score(score)
+                        .level(levelTable.levelFor(score))
+                        .build());
+                if (entries.size() == size) break;
+            }
+
+            if (tuples.size() < fetchSize) break;
+            offset += fetchSize;
+        }
+
+        return IntimacyDto.FriendRankingResponse.builder()
+                .rankings(entries)
+                .build();
+    }
+
+    public IntimacyDto.TotalRankingResponse getTotalRanking(Long userId, int size) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(TOTAL_KEY, 0, size - 1);
+
+        List<IntimacyDto.RankingEntry> entries = new ArrayList<>();
+        if (tuples != null) {
+            int rank = 1;
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                long score = tuple.getScore() == null ? 0L : tuple.getScore().longValue();
+                entries.add(IntimacyDto.RankingEntry.builder()
+                        .userId(Long.valueOf(tuple.getValue()))
+                        .rank(rank++)
+                        .level((int) score)
+                        .build());
+            }
+        }
+
+        Long myRank = redisTemplate.opsForZSet().reverseRank(TOTAL_KEY, String.valueOf(userId));
+        Double myScore = redisTemplate.opsForZSet().score(TOTAL_KEY, String.valueOf(userId));
+
+        return IntimacyDto.TotalRankingResponse.builder()
+                .rankings(entries)
+                .myRank(myRank == null ? null : myRank + 1)
+                .myTotalLevel(myScore == null ? null : myScore.intValue())
+                .build();
+    }
+
+    /**
+     * 임시 키에 새로 만든 뒤 RENAME 으로 한 번에 바꿔 끼워, 재구성 중에 비어 있거나 TTL 이 없는 랭킹이 보이지 않게 한다.
+     */
+    public void rebuildUser(Long userId) {
+        BlockSet blockSet = userBlockService.getBlockSet(userId);
+        Map<Long, FriendshipIntimacy> byPartner = new HashMap<>();
+        for (FriendshipIntimacy fi : intimacyRepository.findAllByUserId(userId)) {
+            Long partnerId = fi.getUserAId().equals(userId) ? fi.getUserBId() : fi.getUserAId();
+            if (isVisiblePartner(userId, partnerId, blockSet)) {
+                byPartner.put(partnerId, fi);
+            }
+        }
+
+        Map<Long, Long> pending = pendingScores(byPartner.values().stream().map(FriendshipIntimacy::getId).toList());
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(new DefaultTypedTuple<>(LOADED_MARKER, -1.0));
+        byPartner.forEach((partnerId, fi) -> {
+            long score = fi.getTotalScore() + pending.getOrDefault(fi.getId(), 0L);
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(partnerId), (double) score));
+        });
+
+        String rebuildKey = USER_REBUILD_KEY_PREFIX + userId + ":" + UUID.randomUUID();
+        redisTemplate.opsForZSet().add(rebuildKey, tuples);
+        redisTemplate.expire(rebuildKey, USER_REBUILD_TTL);
+        redisTemplate.rename(rebuildKey, userKey(userId));
+        redisTemplate.expire(userKey(userId), USER_TTL);
+    }
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(TOTAL_KEY))) return;
+        rebuild();
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void rebuild() {
+        String lockToken = redisLock.tryAcquire(LOCK_KEY, LOCK_TTL);
+        if (lockToken == null) {
+            log.info("[Leaderboard] 다른 인스턴스에서 친밀도 랭킹을 재구성 중입니다.");
+            return;
+        }
+
+        try {
+            long users = rebuildTotal();
+            redisLock.extend(LOCK_KEY, lockToken, LOCK_TTL);
+            int rebuiltUsers = rebuildLoadedUsers();
+            log.info("[Leaderboard] 친밀도 랭킹 재구성 완료: 전체 {}명, 개인 랭킹 {}명", users, rebuiltUsers);
+        } catch (Exception e) {
+            log.error("[Leaderboard] 친밀도 랭킹 재구성 실패", e);
+        } finally {
+            redisLock.release(LOCK_KEY, lockToken);
+        }
+    }
+
+    private long rebuildTotal() {
+        redisTemplate.delete(TOTAL_REBUILD_KEY);
+
+        long count = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = userRepository.findTotalIntimacyLevelsAfter(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            if (rows.isEmpty()) break;
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            for (Object[] row : rows) {
+                tuples.add(new DefaultTypedTuple<>(String.valueOf(row[0]), ((Number) row[1]).doubleValue()));
+            }
+            redisTemplate.opsForZSet().add(TOTAL_REBUILD_KEY, tuples);
+
+            count += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        if (count > 0) {
+            redisTemplate.rename(TOTAL_REBUILD_KEY, TOTAL_KEY);
+        } else {
+            redisTemplate.delete(TOTAL_KEY);
+        }
+        return count;
+    }
+
+    private int rebuildLoadedUsers() {
+        List<Long> userIds = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(USER_KEY_PREFIX + "*")
+                .count(REBUILD_PAGE_SIZE)
+                .build())) {
+            cursor.forEachRemaining(key -> userIds.add(Long.valueOf(key.substring(USER_KEY_PREFIX.length()))));
+        }
+
+        userIds.forEach(this::rebuildUser);
+        return userIds.size();
+    }
+
+    private boolean isVisiblePartner(Long userId, Long partnerId, BlockSet blockSet) {
+        return socialGraph.isFriend(userId, partnerId) && !blockSet.isBlockedEitherWay(partnerId);
+    }
+
+    private Map<Long, Long> pendingScores(List<Long> intimacyIds) {
+        if (intimacyIds.isEmpty()) return Map.of();
+        try {
+            return deltaBufferFlusher.pendingDeltas(
+                    new RedisDeltaBuffer(IntimacyScoreEngine.SCORE_BUFFER_NAME, redisTemplate), intimacyIds);
+        } catch (Exception e) {
+            log.warn("친밀도 미반영 점수 조회 실패: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void evict(Collection<String> keys) {
+        try {
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.warn("친밀도 랭킹 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private String userKey(Long userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,68 @@
+package com.teamloci.loci.domain.intimacy.service;
+
+import com.teamloci.loci.domain.intimacy.entity.IntimacyLevel;
+import com.teamloci.loci.domain.intimacy.repository.IntimacyLevelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntimacyLevelTable {
+
+    private final IntimacyLevelRepository levelRepository;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(NavigableMap<Long, Integer> levelByScore, Map<Integer, Integer> scoreByLevel) {}
+
+    public int levelFor(long totalScore) {
+        Map.Entry<Long, Integer> entry = snapshot().levelByScore().floorEntry(totalScore);
+        return entry == null ? 1 : entry.getValue();
+    }
+
+    public Integer requiredScore(int level) {
+        return snapshot().scoreByLevel().get(level);
+    }
+
+    @Scheduled(fixedDelayString = "${intimacy.level-table.refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            snapshot = load();
+        } catch (Exception e) {
+            log.error("친밀도 레벨 테이블 갱신 실패", e);
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        TreeMap<Long, Integer> levelByScore = new TreeMap<>();
+        Map<Integer, Integer> scoreByLevel = new HashMap<>();
+
+        for (IntimacyLevel lv : levelRepository.findAll()) {
+            levelByScore.merge(lv.getRequiredTotalScore().longValue(), lv.getLevel(), Math::max);
+            scoreByLevel.put(lv.getLevel(), lv.getRequiredTotalScore());
+        }
+
+        return new Snapshot(
+                Collections.unmodifiableNavigableMap(levelByScore),
+                Map.copyOf(scoreByLevel));
+    }
+}
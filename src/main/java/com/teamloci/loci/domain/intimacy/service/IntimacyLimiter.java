@@ -0,0 +1,94 @@
+package com.teamloci.loci.domain.intimacy.service;
+
+import com.teamloci.loci.domain.intimacy.entity.IntimacyType;
+import com.teamloci.loci.domain.intimacy.repository.IntimacyLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntimacyLimiter {
+
+    private static final String KEY_PREFIX = "intimacy:limit:";
+    private static final Duration DAILY_TTL = Duration.ofDays(1);
+    private static final Duration VISIT_TTL = Duration.ofDays(7);
+    private static final Duration FRIEND_MADE_TTL = Duration.ofDays(30);
+
+    private final StringRedisTemplate redisTemplate;
+    private final IntimacyLogRepository logRepository;
+
+    public boolean tryAcquire(Long actorId, Long targetId, IntimacyType type, String beaconId) {
+        String key;
+        Duration ttl;
+        switch (type) {
+            case FRIEND_MADE -> {
+                key = KEY_PREFIX + type + ":" + Math.min(actorId, targetId) + ":" + Math.max(actorId, targetId);
+                ttl = FRIEND_MADE_TTL;
+            }
+            case REACTION, COMMENT, COLLABORATOR -> {
+                key = KEY_PREFIX + type + ":" + actorId + ":" + targetId + ":" + LocalDate.now();
+                ttl = DAILY_TTL;
+            }
+            case VISIT -> {
+                key = KEY_PREFIX + type + ":" + actorId + ":" + targetId + ":" + beaconId;
+                ttl = VISIT_TTL;
+            }
+            default -> {
+                return true;
+            }
+        }
+
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(key, "1", ttl);
+        } catch (Exception e) {
+            log.warn("친밀도 제한 키 확인 실패, DB로 확인합니다: type={}, {}", type, e.getMessage());
+            return !isLimitedInDb(actorId, targetId, type, beaconId);
+        }
+        if (!Boolean.TRUE.equals(acquired)) return false;
+
+        if (type == IntimacyType.FRIEND_MADE && logRepository.existsFriendMadeLogBetween(actorId, targetId, type)) {
+            return false;
+        }
+
+        releaseOnRollback(key);
+        return true;
+    }
+
+    private void releaseOnRollback(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) return;
+                try {
+                    redisTemplate.delete(key);
+                } catch (Exception e) {
+                    log.warn("친밀도 제한 키 롤백 실패: key={}, {}", key, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private boolean isLimitedInDb(Long actorId, Long targetId, IntimacyType type, String beaconId) {
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        return switch (type) {
+            case FRIEND_MADE -> logRepository.existsFriendMadeLogBetween(actorId, targetId, type);
+            case REACTION, COMMENT, COLLABORATOR -> logRepository.existsByActorIdAndTargetIdAndTypeAndCreatedAtBetween(
+                    actorId, targetId, type, startOfDay, startOfDay.plusDays(1));
+            case VISIT -> logRepository.existsVisitLogRecent(
+                    actorId, targetId, type, beaconId, LocalDateTime.now().minusDays(7));
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,353 @@
+package com.teamloci.loci.domain.intimacy.service;
+
+import com.teamloci.loci.domain.intimacy.entity.IntimacyType;
+import com.teamloci.loci.global.util.RedisLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class IntimacyLogWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO intimacy_logs (actor_id, target_id, type, earned_point, related_beacon_id, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String SPILL_KEY = "intimacy:log:spill";
+    private static final String SPILL_PROCESSING_KEY = "intimacy:log:spill:processing";
+    private static final String SPILL_DEAD_KEY = "intimacy:log:spill:dead";
+    private static final String SPILL_LOCK_KEY = "intimacy:log:spill:lock";
+    private static final Duration SPILL_LOCK_TTL = Duration.ofMinutes(1);
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final int MAX_ROW_FAILURES_BEFORE_SUCCESS = 3;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TAKE_SPILLED_SCRIPT = new DefaultRedisScript<>("""
+            local rows = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #rows > 0 then
+                redis.call('RPUSH', KEYS[2], unpack(rows))
+                redis.call('LTRIM', KEYS[1], #rows, -1)
+            end
+            return rows
+            """, List.class);
+
+    private static final RedisScript<Long> RETURN_SPILLED_SCRIPT = new DefaultRedisScript<>("""
+            local rows = redis.call('LRANGE', KEYS[2], 0, -1)
+            for i = #rows, 1, -1 do
+                redis.call('LPUSH', KEYS[1], rows[i])
+            end
+            redis.call('DEL', KEYS[2])
+            return #rows
+            """, Long.class);
+
+    private static final RedisScript<Long> MOVE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local rows = redis.call('LRANGE', KEYS[1], 0, -1)
+            if #rows > 0 then
+                redis.call('RPUSH', KEYS[2], unpack(rows))
+            end
+            redis.call('DEL', KEYS[1])
+            return #rows
+            """, Long.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLock redisLock;
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+
+    private final Timer writeTimer;
+    private final Counter writtenRows;
+    private final Counter droppedRows;
+    private final Counter spilledRows;
+    private final Counter deadRows;
+    private final Counter callerWrites;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public record Entry(Long actorId, Long targetId, IntimacyType type, int earnedPoint,
+                        String relatedBeaconId, LocalDateTime createdAt) {}
+
+    public IntimacyLogWriter(JdbcTemplate jdbcTemplate,
+                             StringRedisTemplate redisTemplate,
+                             RedisLock redisLock,
+                             MeterRegistry meterRegistry,
+                             @Value("${intimacy.log.queue-capacity:10000}") int queueCapacity,
+                             @Value("${intimacy.log.batch-size:500}") int batchSize,
+                             @Value("${intimacy.log.flush-interval-ms:200}") long flushIntervalMs,
+                             @Value("${intimacy.log.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.redisLock = redisLock;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+
+        this.writeTimer = Timer.builder("intimacy.log.write.duration").register(meterRegistry);
+        this.writtenRows = Counter.builder("intimacy.log.rows").tag("result", "written").register(meterRegistry);
+        this.droppedRows = Counter.builder("intimacy.log.rows").tag("result", "dropped").register(meterRegistry);
+        this.spilledRows = Counter.builder("intimacy.log.rows").tag("result", "spilled").register(meterRegistry);
+        this.deadRows = Counter.builder("intimacy.log.rows").tag("result", "dead").register(meterRegistry);
+        this.callerWrites = Counter.builder("intimacy.log.caller_writes").register(meterRegistry);
+        Gauge.builder("intimacy.log.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "Loci-IntimacyLog");
+        worker.start();
+    }
+
+    public void append(Long actorId, Long targetId, IntimacyType type, int earnedPoint, String relatedBeaconId) {
+        Entry entry = new Entry(actorId, targetId, type, earnedPoint, relatedBeaconId, LocalDateTime.now());
+
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = queue.offer(entry, offerTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (!queued) {
+            callerWrites.increment();
+            writeOrSpill(List.of(entry));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<Entry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int i = 0; i < remaining.size(); i += batchSize) {
+            writeOrSpill(remaining.subList(i, Math.min(i + batchSize, remaining.size())));
+        }
+        log.info("[IntimacyLog] 종료 전 친밀도 로그 {}건을 기록했습니다.", remaining.size());
+    }
+
+    private void runLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Entry first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) break;
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) break;
+                    Entry next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                if (running) continue;
+            }
+
+            if (!batch.isEmpty()) {
+                writeOrSpill(batch);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            writeOrSpill(batch);
+        }
+    }
+
+    /**
+     * 기록에 실패한 로그를 Redis 목록에 옮겨 두었다가 다시 기록한다.
+     * 여러 인스턴스가 같은 항목을 중복 기록하지 않도록 락을 잡고, 배치를 처리 중 목록으로 옮긴 뒤 기록한다.
+     * 처리 중 목록이 남아 있으면 이전 실행이 기록 도중 멈춘 것이므로, 중복 기록하지 않도록 보류 목록으로 옮긴다.
+     */
+    @Scheduled(fixedDelayString = "${intimacy.log.spill-retry-interval-ms:30000}")
+    public void retrySpilled() {
+        String token;
+        try {
+            Long size = redisTemplate.opsForList().size(SPILL_KEY);
+            Long processing = redisTemplate.opsForList().size(SPILL_PROCESSING_KEY);
+            if ((size == null || size == 0) && (processing == null || processing == 0)) return;
+
+            token = redisLock.tryAcquire(SPILL_LOCK_KEY, SPILL_LOCK_TTL);
+            if (token == null) return;
+        } catch (Exception e) {
+            log.warn("[IntimacyLog] 재시도 대기 로그 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        int retried = 0;
+        try {
+            Long orphaned = redisTemplate.execute(MOVE_ALL_SCRIPT, List.of(SPILL_PROCESSING_KEY, SPILL_DEAD_KEY));
+            if (orphaned != null && orphaned > 0) {
+                deadRows.increment(orphaned);
+                log.warn("[IntimacyLog] 기록 여부를 알 수 없는 친밀도 로그 {}건을 보류 목록({})으로 옮겼습니다.", orphaned, SPILL_DEAD_KEY);
+            }
+
+            while (true) {
+                @SuppressWarnings("unchecked")
+                List<String> rows = redisTemplate.execute(TAKE_SPILLED_SCRIPT,
+                        List.of(SPILL_KEY, SPILL_PROCESSING_KEY), String.valueOf(batchSize));
+                if (rows == null || rows.isEmpty()) break;
+
+                int written = writeSpilled(rows);
+                if (written < 0) {
+                    redisTemplate.execute(RETURN_SPILLED_SCRIPT, List.of(SPILL_KEY, SPILL_PROCESSING_KEY));
+                    break;
+                }
+                redisTemplate.delete(SPILL_PROCESSING_KEY);
+                retried += written;
+
+                if (!redisLock.extend(SPILL_LOCK_KEY, token, SPILL_LOCK_TTL)) break;
+            }
+        } catch (Exception e) {
+            log.error("[IntimacyLog] 재시도 대기 로그 기록 실패", e);
+        } finally {
+            redisLock.release(SPILL_LOCK_KEY, token);
+        }
+
+        if (retried > 0) {
+            log.info("[IntimacyLog] 재시도 대기 친밀도 로그 {}건을 기록했습니다.", retried);
+        }
+    }
+
+    /**
+     * 배치 기록이 실패하면 한 건씩 다시 기록하고, 그래도 실패하는 행은 보류 목록으로 옮긴다.
+     * 한 건도 성공하지 못한 채 실패가 이어지면 DB 장애로 보고 -1 을 돌려준다.
+     */
+    private int writeSpilled(List<String> rows) {
+        List<Entry> entries = new ArrayList<>(rows.size());
+        List<String> entryRows = new ArrayList<>(rows.size());
+        List<String> dead = new ArrayList<>();
+        for (String row : rows) {
+            try {
+                entries.add(deserialize(row));
+                entryRows.add(row);
+            } catch (Exception e) {
+                dead.add(row);
+            }
+        }
+
+        int written = 0;
+        if (entries.isEmpty() || write(entries)) {
+            written = entries.size();
+        } else {
+            int failures = 0;
+            List<String> failed = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                if (write(List.of(entries.get(i)))) {
+                    written++;
+                } else {
+                    failed.add(entryRows.get(i));
+                    if (++failures >= MAX_ROW_FAILURES_BEFORE_SUCCESS && written == 0) return -1;
+                }
+            }
+            dead.addAll(failed);
+        }
+
+        if (!dead.isEmpty()) {
+            redisTemplate.opsForList().rightPushAll(SPILL_DEAD_KEY, dead);
+            deadRows.increment(dead.size());
+            log.error("[IntimacyLog] 다시 기록해도 실패한 친밀도 로그 {}건을 보류 목록({})으로 옮겼습니다.", dead.size(), SPILL_DEAD_KEY);
+        }
+        return written;
+    }
+
+    private void writeOrSpill(List<Entry> entries) {
+        if (write(entries)) return;
+
+        try {
+            redisTemplate.opsForList().rightPushAll(SPILL_KEY, entries.stream().map(this::serialize).toList());
+            spilledRows.increment(entries.size());
+            log.warn("[IntimacyLog] 친밀도 로그 {}건을 재시도 대기열로 옮겼습니다.", entries.size());
+        } catch (Exception e) {
+            droppedRows.increment(entries.size());
+            log.error("[IntimacyLog] 친밀도 로그 {}건 기록 실패", entries.size(), e);
+        }
+    }
+
+    private boolean write(List<Entry> entries) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(entries.size() * 7);
+        for (int i = 0; i < entries.size(); i++) {
+            Entry e = entries.get(i);
+            if (i > 0) sql.append(", ");
+            sql.append(ROW_PLACEHOLDER);
+
+            Timestamp createdAt = Timestamp.valueOf(e.createdAt());
+            args.add(e.actorId());
+            args.add(e.targetId());
+            args.add(e.type().name());
+            args.add(e.earnedPoint());
+            args.add(e.relatedBeaconId());
+            args.add(createdAt);
+            args.add(createdAt);
+        }
+
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            try {
+                writeTimer.record(() -> jdbcTemplate.update(sql.toString(), args.toArray()));
+                writtenRows.increment(entries.size());
+                return true;
+            } catch (Exception e) {
+                if (attempt == 2) {
+                    log.warn("[IntimacyLog] 친밀도 로그 {}건 기록 실패: {}", entries.size(), e.getMessage());
+                }
+            }
+        }
+        return false;
+    }
+
+    private String serialize(Entry e) {
+        return String.join(FIELD_SEPARATOR,
+                String.valueOf(e.actorId()),
+                String.valueOf(e.targetId()),
+                e.type().name(),
+                String.valueOf(e.earnedPoint()),
+                e.relatedBeaconId() == null ? "" : e.relatedBeaconId(),
+                e.createdAt().toString());
+    }
+
+    private Entry deserialize(String row) {
+        String[] f = row.split(FIELD_SEPARATOR, -1);
+        return new Entry(Long.valueOf(f[0]), Long.valueOf(f[1]), IntimacyType.valueOf(f[2]), Integer.parseInt(f[3]),
+                f[4].isEmpty() ? null : f[4], LocalDateTime.parse(f[5]));
+    }
+}
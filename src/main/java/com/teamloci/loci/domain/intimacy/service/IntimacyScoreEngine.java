@@ -0,0 +1,228 @@
+package com.teamloci.loci.domain.intimacy.service;
+
+import com.teamloci.loci.domain.intimacy.entity.FriendshipIntimacy;
+import com.teamloci.loci.domain.intimacy.event.IntimacyLevelUpEvent;
+import com.teamloci.loci.domain.intimacy.repository.FriendshipIntimacyRepository;
+import com.teamloci.loci.domain.user.UserRepository;
+import com.teamloci.loci.global.counter.DeltaBufferFlusher;
+import com.teamloci.loci.global.counter.RedisDeltaBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class IntimacyScoreEngine {
+
+    public static final String SCORE_BUFFER_NAME = "intimacy:score";
+
+    private static final String PAIR_KEY_PREFIX = "intimacy:pair:";
+    private static final Duration PAIR_TTL = Duration.ofDays(7);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return false
+            end
+            local id = redis.call('HGET', KEYS[1], 'id')
+            local score = redis.call('HINCRBY', KEYS[1], 'score', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('HINCRBY', KEYS[2], id, ARGV[1])
+            return {tonumber(id), score}
+            """, List.class);
+
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('HSET', KEYS[1], 'id', ARGV[1], 'score', ARGV[2])
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    private final FriendshipIntimacyRepository intimacyRepository;
+    private final UserRepository userRepository;
+    private final IntimacyLevelTable levelTable;
+    private final IntimacyLeaderboard leaderboard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final DeltaBufferFlusher deltaBufferFlusher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisDeltaBuffer scoreBuffer;
+
+    @Value("${feature.buffered-intimacy-score:true}")
+    private boolean buffered;
+
+    public IntimacyScoreEngine(FriendshipIntimacyRepository intimacyRepository,
+                               UserRepository userRepository,
+                               IntimacyLevelTable levelTable,
+                               IntimacyLeaderboard leaderboard,
+                               ApplicationEventPublisher eventPublisher,
+                               StringRedisTemplate redisTemplate,
+                               JdbcTemplate jdbcTemplate,
+                               DeltaBufferFlusher deltaBufferFlusher,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.intimacyRepository = intimacyRepository;
+        this.userRepository = userRepository;
+        this.levelTable = levelTable;
+        this.leaderboard = leaderboard;
+        this.eventPublisher = eventPublisher;
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.deltaBufferFlusher = deltaBufferFlusher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.scoreBuffer = new RedisDeltaBuffer(SCORE_BUFFER_NAME, redisTemplate);
+    }
+
+    public void addScore(Long actorId, Long targetId, int point) {
+        Long u1 = Math.min(actorId, targetId);
+        Long u2 = Math.max(actorId, targetId);
+
+        if (!buffered) {
+            addScoreDirectly(u1, u2, actorId, targetId, point);
+            return;
+        }
+
+        long[] pair;
+        try {
+            pair = incrementPair(u1, u2, point);
+        } catch (RedisConnectionFailureException e) {
+            log.error("친밀도 점수 버퍼 기록 실패, DB에 직접 반영합니다: u1={}, u2={}", u1, u2, e);
+            pair = null;
+        } catch (Exception e) {
+            log.error("친밀도 점수 버퍼 기록 결과를 알 수 없어 직접 반영하지 않습니다: u1={}, u2={}, point={}", u1, u2, point, e);
+            Counter.builder("intimacy.score.unconfirmed").register(meterRegistry).increment();
+            return;
+        }
+
+        if (pair == null) {
+            try {
+                addScoreDirectly(u1, u2, actorId, targetId, point);
+            } catch (Exception directError) {
+                log.error("친밀도 점수 직접 반영 실패: u1={}, u2={}, point={}", u1, u2, point, directError);
+            }
+            return;
+        }
+
+        long intimacyId = pair[0];
+        long newScore = pair[1];
+        leaderboard.updatePairScore(u1, u2, newScore);
+
+        int oldLevel = levelTable.levelFor(newScore - point);
+        int newLevel = levelTable.levelFor(newScore);
+        if (newLevel > oldLevel) {
+            transactionTemplate.executeWithoutResult(status ->
+                    levelUp(intimacyId, actorId, targetId, oldLevel, newLevel));
+        }
+    }
+
+    public long pendingScore(Long intimacyId) {
+        if (!buffered) return 0L;
+        try {
+            return deltaBufferFlusher.pendingDeltas(scoreBuffer, List.of(intimacyId)).getOrDefault(intimacyId, 0L);
+        } catch (Exception e) {
+            log.warn("친밀도 미반영 점수 조회 실패: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${intimacy.score.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            deltaBufferFlusher.flush(scoreBuffer, this::applyDeltas);
+        } catch (Exception e) {
+            log.error("친밀도 점수 반영 실패", e);
+        }
+    }
+
+    /**
+     * 쌍 점수와 점수 버퍼를 하나의 스크립트로 함께 올린다.
+     * 스크립트가 실행되지 않았음이 확실하면 null 을 돌려주고, 실행 여부를 알 수 없는 오류는 그대로 던진다.
+     */
+    private long[] incrementPair(Long u1, Long u2, int point) {
+        String key = PAIR_KEY_PREFIX + u1 + ":" + u2;
+        String ttl = String.valueOf(PAIR_TTL.getSeconds());
+        List<String> keys = List.of(key, scoreBuffer.getPendingKey());
+
+        List<?> result = redisTemplate.execute(ADD_SCRIPT, keys, String.valueOf(point), ttl);
+        if (result == null || result.isEmpty()) {
+            try {
+                FriendshipIntimacy intimacy = transactionTemplate.execute(status -> {
+                    intimacyRepository.insertIfAbsent(u1, u2);
+                    return intimacyRepository.findByUserAIdAndUserBId(u1, u2).orElseThrow();
+                });
+                long seedScore = intimacy.getTotalScore() + pendingScore(intimacy.getId());
+                redisTemplate.execute(SEED_SCRIPT, List.of(key),
+                        String.valueOf(intimacy.getId()), String.valueOf(seedScore), ttl);
+            } catch (Exception e) {
+                log.error("친밀도 점수 키 초기화 실패: {}", key, e);
+                return null;
+            }
+
+            result = redisTemplate.execute(ADD_SCRIPT, keys, String.valueOf(point), ttl);
+            if (result == null || result.isEmpty()) {
+                log.error("친밀도 점수 키 초기화 후에도 키가 없습니다: {}", key);
+                return null;
+            }
+        }
+        return new long[]{((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue()};
+    }
+
+    private void levelUp(Long intimacyId, Long actorId, Long targetId, int oldLevel, int newLevel) {
+        if (intimacyRepository.raiseLevel(intimacyId, newLevel) == 0) return;
+
+        int levelDiff = newLevel - oldLevel;
+        userRepository.increaseTotalIntimacy(actorId, levelDiff);
+        userRepository.increaseTotalIntimacy(targetId, levelDiff);
+        leaderboard.increaseTotalLevelAfterCommit(actorId, targetId, levelDiff);
+
+        Counter.builder("intimacy.level_up").register(meterRegistry).increment();
+        eventPublisher.publishEvent(new IntimacyLevelUpEvent(actorId, targetId, newLevel));
+    }
+
+    private void addScoreDirectly(Long u1, Long u2, Long actorId, Long targetId, int point) {
+        transactionTemplate.executeWithoutResult(status -> {
+            intimacyRepository.insertIfAbsent(u1, u2);
+            FriendshipIntimacy intimacy = intimacyRepository.findByUserAIdAndUserBIdWithLock(u1, u2).orElseThrow();
+
+            long oldScore = intimacy.getTotalScore() + pendingScore(intimacy.getId());
+            applyDeltas(Map.of(intimacy.getId(), (long) point));
+            leaderboard.updatePairScoreAfterCommit(u1, u2, oldScore + point);
+
+            int oldLevel = levelTable.levelFor(oldScore);
+            int newLevel = levelTable.levelFor(oldScore + point);
+            if (newLevel > oldLevel) {
+                levelUp(intimacy.getId(), actorId, targetId, oldLevel, newLevel);
+            }
+        });
+    }
+
+    private void applyDeltas(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((intimacyId, delta) -> args.add(new Object[]{delta, intimacyId}));
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE friendship_intimacies SET total_score = total_score + ?, updated_at = NOW() WHERE id = ?", args);
+    }
+}
@@ -0,0 +1,172 @@
+package com.teamloci.loci.domain.notification;
+
+import com.teamloci.loci.global.util.BackfillCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyPushDedupStore {
+
+    public static final String SEED_BACKFILL_NAME = "push-dedup-seed";
+
+    private static final String KEY_PREFIX = "push:dedup:";
+    private static final String LEGACY_VISIT_PREFIX = "VISIT_";
+    private static final Duration TTL = Duration.ofDays(3);
+
+    private final StringRedisTemplate redisTemplate;
+    private final DailyPushLogRepository dailyPushLogRepository;
+    private final BackfillCoordinator backfillCoordinator;
+
+    @Value("${feature.push-dedup-audit:false}")
+    private boolean auditEnabled;
+
+    public Set<Long> claim(NotificationType type, Map<Long, LocalDate> localDates) {
+        if (localDates.isEmpty()) return Set.of();
+
+        List<Long> userIds = new ArrayList<>(localDates.keySet());
+        Set<String> keys = new HashSet<>();
+
+        List<Object> previousBits = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                String key = key(type, localDates.get(userId));
+                keys.add(key);
+                connection.stringCommands().setBit(raw(key), userId, true);
+            }
+            keys.forEach(key -> connection.keyCommands().expire(raw(key), TTL.getSeconds()));
+            return null;
+        });
+
+        Set<Long> claimed = new HashSet<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (!Boolean.TRUE.equals(previousBits.get(i))) {
+                claimed.add(userIds.get(i));
+            }
+        }
+
+        if (!claimed.isEmpty() && !backfillCoordinator.isComplete(SEED_BACKFILL_NAME)) {
+            claimed.removeAll(sentByLegacyLog(type, claimed, localDates));
+        }
+
+        if (auditEnabled && !claimed.isEmpty()) {
+            audit(type, claimed, localDates);
+        }
+        return claimed;
+    }
+
+    public void release(NotificationType type, Collection<Long> userIds, Map<Long, LocalDate> localDates) {
+        if (userIds.isEmpty()) return;
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                userIds.forEach(userId ->
+                        connection.stringCommands().setBit(raw(key(type, localDates.get(userId))), userId, false));
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("[Push Dedup] 발송 기록 롤백 실패: type={}, {}명", type, userIds.size(), e);
+        }
+    }
+
+    public boolean hasAnyOn(NotificationType type, LocalDate date) {
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.stringCommands().bitCount(raw(key(type, date))));
+        return count != null && count > 0;
+    }
+
+    public void reset(NotificationType type, LocalDate date) {
+        redisTemplate.delete(key(type, date));
+    }
+
+    /**
+     * 비트맵 도입 이전에 daily_push_logs 에 남은 발송 기록을 비트로 옮긴다.
+     * 기록은 어제 이전 날짜가 매일 지워지므로 최근 기록만 옮기면 된다.
+     */
+    public void seedFromLogs() {
+        List<DailyPushLog> logs = dailyPushLogRepository.findAllByDateGreaterThanEqual(LocalDate.now().minusDays(2));
+        if (logs.isEmpty()) return;
+
+        Set<String> keys = new HashSet<>();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (DailyPushLog pushLog : logs) {
+                NotificationType type = typeOf(pushLog.getId());
+                if (type == null) continue;
+
+                String key = key(type, pushLog.getDate());
+                keys.add(key);
+                connection.stringCommands().setBit(raw(key), pushLog.getUserId(), true);
+            }
+            keys.forEach(key -> connection.keyCommands().expire(raw(key), TTL.getSeconds()));
+            return null;
+        });
+        log.info("[Push Dedup] 기존 발송 기록 {}건을 비트맵으로 옮겼습니다.", logs.size());
+    }
+
+    private Set<Long> sentByLegacyLog(NotificationType type, Set<Long> userIds, Map<Long, LocalDate> localDates) {
+        Map<String, Long> userIdsByLogId = new HashMap<>();
+        for (Long userId : userIds) {
+            String logId = legacyLogId(type, userId, localDates.get(userId));
+            if (logId == null) return Set.of();
+            userIdsByLogId.put(logId, userId);
+        }
+
+        try {
+            Set<Long> sent = new HashSet<>();
+            dailyPushLogRepository.findAllById(userIdsByLogId.keySet())
+                    .forEach(existing -> sent.add(userIdsByLogId.get(existing.getId())));
+            return sent;
+        } catch (Exception e) {
+            log.warn("[Push Dedup] 기존 발송 기록 조회 실패: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private String legacyLogId(NotificationType type, Long userId, LocalDate date) {
+        return switch (type) {
+            case LOCI_TIME -> date + "_" + userId;
+            case FRIEND_VISITED -> LEGACY_VISIT_PREFIX + date + "_" + userId;
+            default -> null;
+        };
+    }
+
+    private NotificationType typeOf(String logId) {
+        if (logId.startsWith(LEGACY_VISIT_PREFIX)) return NotificationType.FRIEND_VISITED;
+        if (!logId.isEmpty() && Character.isDigit(logId.charAt(0))) return NotificationType.LOCI_TIME;
+
+        for (NotificationType type : NotificationType.values()) {
+            if (logId.startsWith(type.name() + "_")) return type;
+        }
+        return null;
+    }
+
+    private void audit(NotificationType type, Set<Long> userIds, Map<Long, LocalDate> localDates) {
+        try {
+            dailyPushLogRepository.saveAll(userIds.stream()
+                    .map(userId -> new DailyPushLog(
+                            type.name() + "_" + localDates.get(userId) + "_" + userId,
+                            userId,
+                            localDates.get(userId)))
+                    .toList());
+        } catch (Exception e) {
+            log.warn("[Push Dedup] 발송 감사 로그 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private String key(NotificationType type, LocalDate date) {
+        return KEY_PREFIX + type.name() + ":" + date;
+    }
+
+    private byte[] raw(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
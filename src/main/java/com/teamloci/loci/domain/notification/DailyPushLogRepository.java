@@ -13,6 +13,8 @@ public interface DailyPushLogRepository extends JpaRepository<DailyPushLog, Stri
 
     void deleteByDateBefore(LocalDate date);
 
+    List<DailyPushLog> findAllByDateGreaterThanEqual(LocalDate date);
+
     @Query("SELECT d.userId FROM DailyPushLog d")
     List<Long> findAllUserIds();
 }
\ No newline at end of file
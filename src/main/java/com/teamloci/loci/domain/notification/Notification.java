@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "notifications", indexes = {
-        @Index(name = "idx_receiver_id", columnList = "receiver_id")
+        @Index(name = "idx_receiver_id", columnList = "receiver_id"),
+        @Index(name = "idx_receiver_is_read", columnList = "receiver_id, is_read")
 })
 public class Notification extends BaseTimeEntity {
 
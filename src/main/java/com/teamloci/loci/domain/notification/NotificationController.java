@@ -42,6 +42,16 @@ public class NotificationController {
         ));
     }
 
+    @Operation(summary = "안 읽은 알림 개수 조회", description = "앱 배지 표시용으로 안 읽은 알림 개수만 가볍게 조회합니다.")
+    @GetMapping("/unread-count")
+    public ResponseEntity<CustomResponse<Long>> getUnreadCount(
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        return ResponseEntity.ok(CustomResponse.ok(
+                notificationService.getUnreadCount(getUserId(user))
+        ));
+    }
+
     @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음 상태로 변경합니다.")
     @PatchMapping("/{notificationId}/read")
     public ResponseEntity<CustomResponse<Void>> readNotification(
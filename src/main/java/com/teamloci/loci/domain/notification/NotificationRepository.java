@@ -19,6 +19,11 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     long countByReceiverIdAndIsReadFalse(Long receiverId);
 
+    @Query("SELECT n.receiver.id, COUNT(n) FROM Notification n " +
+            "WHERE n.receiver.id IN :receiverIds AND n.isRead = false " +
+            "GROUP BY n.receiver.id")
+    List<Object[]> countUnreadByReceiverIds(@Param("receiverIds") List<Long> receiverIds);
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiver.id = :userId AND n.isRead = false")
     int markAllAsRead(@Param("userId") Long userId);
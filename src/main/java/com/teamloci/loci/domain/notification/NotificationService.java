@@ -1,8 +1,8 @@
 package com.teamloci.loci.domain.notification;
 
-import com.google.firebase.messaging.*;
 import com.teamloci.loci.domain.intimacy.service.IntimacyService;
 import com.teamloci.loci.domain.user.User;
+import com.teamloci.loci.domain.user.UserPushTarget;
 import com.teamloci.loci.domain.user.UserRepository;
 import com.teamloci.loci.global.error.CustomException;
 import com.teamloci.loci.global.error.ErrorCode;
@@ -19,6 +19,7 @@ import org.springframework.util.StringUtils;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -33,6 +34,8 @@ public class NotificationService {
     private final IntimacyService intimacyService;
     private final StringRedisTemplate redisTemplate;
     private final NotificationMessageProvider messageProvider;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     @Lazy
     @Autowired
@@ -62,20 +65,21 @@ public class NotificationService {
                 .relatedId(relatedId)
                 .thumbnailUrl(thumbnailUrl)
                 .build());
+        unreadNotificationCounter.increaseAfterCommit(List.of(receiver.getId()));
 
-        String token = receiver.getFcmToken();
-        if (token != null && !token.isBlank()) {
-            sendFcm(token, title, body, type, relatedId, thumbnailUrl, savedNotification.getId());
-        }
+        enqueuePush(receiver.getId(), receiver.getFcmToken(), type, title, body, relatedId, thumbnailUrl, savedNotification.getId());
     }
 
+    /**
+     * 저장과 커밋이 끝나면 완료되는 future 를 돌려준다. 실패하면 예외와 함께 완료되므로 호출부에서 후처리할 수 있다.
+     */
     @Async("taskExecutor")
     @Transactional
-    public void sendMulticast(List<Long> receiverIds, NotificationType type, String title, String body, Long relatedId, String thumbnailUrl) {
-        if (receiverIds == null || receiverIds.isEmpty()) return;
+    public CompletableFuture<Void> sendMulticast(List<Long> receiverIds, NotificationType type, String title, String body, Long relatedId, String thumbnailUrl) {
+        if (receiverIds == null || receiverIds.isEmpty()) return CompletableFuture.completedFuture(null);
 
         List<User> receivers = userRepository.findAllById(receiverIds);
-        if (receivers.isEmpty()) return;
+        if (receivers.isEmpty()) return CompletableFuture.completedFuture(null);
 
         List<Notification> entities = receivers.stream()
                 .map(r -> Notification.builder()
@@ -88,95 +92,72 @@ public class NotificationService {
                         .build())
                 .collect(Collectors.toList());
         notificationRepository.saveAll(entities);
+        unreadNotificationCounter.increaseAfterCommit(receivers.stream().map(User::getId).toList());
 
-        List<String> tokens = receivers.stream()
-                .map(User::getFcmToken)
-                .filter(t -> t != null && !t.isBlank())
+        List<PushOutbox> pushes = receivers.stream()
+                .filter(r -> r.getFcmToken() != null && !r.getFcmToken().isBlank())
+                .map(r -> PushOutbox.builder()
+                        .receiverId(r.getId())
+                        .token(r.getFcmToken())
+                        .type(type)
+                        .title(title)
+                        .body(body)
+                        .relatedId(relatedId)
+                        .thumbnailUrl(thumbnailUrl)
+                        .build())
                 .collect(Collectors.toList());
-
-        if (!tokens.isEmpty()) {
-            sendFcmMulticast(tokens, title, body, type, relatedId, thumbnailUrl);
-        }
+        pushOutboxRepository.saveAll(pushes);
+        return CompletableFuture.completedFuture(null);
     }
 
-    private void sendFcm(String token, String title, String body, NotificationType type, Long relatedId, String thumbnailUrl, Long notificationId) {
-        try {
-            com.google.firebase.messaging.Notification.Builder notiBuilder =
-                    com.google.firebase.messaging.Notification.builder()
-                            .setTitle(title)
-                            .setBody(body);
+    @Transactional
+    public void sendMulticastToTargets(List<UserPushTarget> targets, NotificationType type, String title, String body, Long relatedId, String thumbnailUrl) {
+        if (targets.isEmpty()) return;
 
-            if (thumbnailUrl != null && !thumbnailUrl.isBlank()) {
-                notiBuilder.setImage(thumbnailUrl);
-            }
+        notificationRepository.saveAll(targets.stream()
+                .map(t -> Notification.builder()
+                        .receiver(userRepository.getReferenceById(t.id()))
+                        .type(type)
+                        .title(title)
+                        .body(body)
+                        .relatedId(relatedId)
+                        .thumbnailUrl(thumbnailUrl)
+                        .build())
+                .collect(Collectors.toList()));
+        unreadNotificationCounter.increaseAfterCommit(targets.stream().map(UserPushTarget::id).toList());
 
-            Message message = Message.builder()
-                    .setToken(token)
-                    .setNotification(notiBuilder.build())
-                    .setApnsConfig(ApnsConfig.builder()
-                            .setAps(Aps.builder().setSound("default").setContentAvailable(true).build())
-                            .build())
-                    .putData("type", type.name())
-                    .putData("targetNotificationId", String.valueOf(notificationId))
-                    .putData("relatedId", relatedId != null ? String.valueOf(relatedId) : "")
-                    .putData("thumbnailUrl", thumbnailUrl != null ? thumbnailUrl : "")
-                    .build();
-
-            FirebaseMessaging.getInstance().send(message);
-        } catch (Exception e) {
-            log.error(">>> [FCM Single Send Error] Exception: {}", e.getMessage());
-        }
+        pushOutboxRepository.saveAll(targets.stream()
+                .map(t -> PushOutbox.builder()
+                        .receiverId(t.id())
+                        .token(t.fcmToken())
+                        .type(type)
+                        .title(title)
+                        .body(body)
+                        .relatedId(relatedId)
+                        .thumbnailUrl(thumbnailUrl)
+                        .build())
+                .collect(Collectors.toList()));
     }
 
-    private void sendFcmMulticast(List<String> tokens, String title, String body, NotificationType type, Long relatedId, String thumbnailUrl) {
-        try {
-            com.google.firebase.messaging.Notification.Builder notiBuilder =
-                    com.google.firebase.messaging.Notification.builder()
-                            .setTitle(title)
-                            .setBody(body);
-
-            if (thumbnailUrl != null && !thumbnailUrl.isBlank()) {
-                notiBuilder.setImage(thumbnailUrl);
-            }
-
-            MulticastMessage message = MulticastMessage.builder()
-                    .addAllTokens(tokens)
-                    .setNotification(notiBuilder.build())
-                    .setApnsConfig(ApnsConfig.builder()
-                            .setAps(Aps.builder().setSound("default").setContentAvailable(true).build())
-                            .build())
-                    .putData("type", type.name())
-                    .putData("targetNotificationId", "-1")
-                    .putData("relatedId", relatedId != null ? String.valueOf(relatedId) : "")
-                    .putData("thumbnailUrl", thumbnailUrl != null ? thumbnailUrl : "")
-                    .build();
-
-            BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
-
-            if (response.getFailureCount() > 0) {
-                log.warn(">>> [FCM Multicast] Success: {}, Failure: {}", response.getSuccessCount(), response.getFailureCount());
-            }
+    private void enqueuePush(Long receiverId, String token, NotificationType type, String title, String body,
+                             Long relatedId, String thumbnailUrl, Long notificationId) {
+        if (token == null || token.isBlank()) return;
 
-        } catch (Exception e) {
-            log.error(">>> [FCM Multicast Exception] <<<", e);
-        }
+        pushOutboxRepository.save(PushOutbox.builder()
+                .receiverId(receiverId)
+                .token(token)
+                .type(type)
+                .title(title)
+                .body(body)
+                .relatedId(relatedId)
+                .thumbnailUrl(thumbnailUrl)
+                .notificationId(notificationId)
+                .build());
     }
 
-    public void sendDirectMessageNotification(String targetFcmToken, String senderNickname, String messageText) {
-        try {
-            Message message = Message.builder()
-                    .setToken(targetFcmToken)
-                    .setNotification(com.google.firebase.messaging.Notification.builder()
-                            .setTitle(senderNickname)
-                            .setBody(messageText)
-                            .build())
-                    .setApnsConfig(ApnsConfig.builder().setAps(Aps.builder().setSound("default").build()).build())
-                    .putData("type", "DIRECT_MESSAGE")
-                    .build();
-            FirebaseMessaging.getInstance().send(message);
-        } catch (Exception e) {
-            log.error(">>> [DM FCM Send Error] Exception: ", e);
-        }
+    @Transactional
+    public void sendDirectMessageNotification(Long receiverId, String targetFcmToken, String senderNickname, String messageText) {
+        enqueuePush(receiverId, targetFcmToken, NotificationType.DIRECT_MESSAGE, senderNickname, messageText, null, null, null);
     }
 
     @Transactional
@@ -234,7 +215,14 @@ public class NotificationService {
         if (!notification.getReceiver().getId().equals(userId)) {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
-        notification.markAsRead();
+        if (!notification.isRead()) {
+            notification.markAsRead();
+            unreadNotificationCounter.decreaseAfterCommit(userId);
+        }
+    }
+
+    public long getUnreadCount(Long userId) {
+        return unreadNotificationCounter.get(userId);
     }
 
     public NotificationDto.ListResponse getMyNotifications(Long userId, Long cursorId, int size) {
@@ -252,7 +240,7 @@ public class NotificationService {
                 .map(NotificationDto.Response::from)
                 .collect(Collectors.toList());
 
-        long unreadCount = notificationRepository.countByReceiverIdAndIsReadFalse(userId);
+        long unreadCount = unreadNotificationCounter.get(userId);
 
         return NotificationDto.ListResponse.builder()
                 .notifications(dtos)
@@ -265,6 +253,7 @@ public class NotificationService {
     @Transactional
     public int readAllNotifications(Long userId) {
         int updatedCount = notificationRepository.markAllAsRead(userId);
+        unreadNotificationCounter.resetAfterCommit(userId);
         if (updatedCount > 0) {
             log.info("사용자 {}의 알림 {}개를 일괄 읽음 처리했습니다.", userId, updatedCount);
         }
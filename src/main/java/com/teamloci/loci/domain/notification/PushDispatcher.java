@@ -0,0 +1,62 @@
+package com.teamloci.loci.domain.notification;
+
+import com.teamloci.loci.domain.notification.push.PushGateway;
+import com.teamloci.loci.domain.notification.push.PushMessage;
+import com.teamloci.loci.domain.notification.push.PushPayload;
+import com.teamloci.loci.domain.notification.push.PushResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class PushDispatcher {
+
+    private final PushGateway pushGateway;
+
+    /**
+     * 본문이 같은 발송(같은 알림을 여러 기기로 보내는 경우 포함)은 멀티캐스트로 묶고,
+     * 혼자인 발송만 sendEach 로 모아 보낸다. 제목/본문은 수신자 언어로 렌더링된 상태로 저장되므로
+     * 페이로드가 같으면 언어도 같다.
+     */
+    public Map<Long, PushResult> send(List<PushOutbox> pushes) {
+        Map<Long, PushResult> results = new HashMap<>();
+
+        Map<PushPayload, List<PushOutbox>> groups = new LinkedHashMap<>();
+        for (PushOutbox push : pushes) {
+            groups.computeIfAbsent(toPayload(push), k -> new ArrayList<>()).add(push);
+        }
+
+        List<PushOutbox> individual = new ArrayList<>();
+        groups.forEach((payload, group) -> {
+            if (group.size() == 1) {
+                individual.add(group.get(0));
+                return;
+            }
+            for (int i = 0; i < group.size(); i += PushGateway.MAX_BATCH_SIZE) {
+                List<PushOutbox> chunk = group.subList(i, Math.min(i + PushGateway.MAX_BATCH_SIZE, group.size()));
+                collect(chunk, pushGateway.sendMulticast(payload, chunk.stream().map(PushOutbox::getToken).toList()), results);
+            }
+        });
+
+        for (int i = 0; i < individual.size(); i += PushGateway.MAX_BATCH_SIZE) {
+            List<PushOutbox> chunk = individual.subList(i, Math.min(i + PushGateway.MAX_BATCH_SIZE, individual.size()));
+            collect(chunk, pushGateway.sendEach(chunk.stream()
+                    .map(push -> new PushMessage(push.getToken(), toPayload(push)))
+                    .toList()), results);
+        }
+        return results;
+    }
+
+    private void collect(List<PushOutbox> pushes, List<PushResult> responses, Map<Long, PushResult> results) {
+        for (int i = 0; i < pushes.size(); i++) {
+            results.put(pushes.get(i).getId(), responses.get(i));
+        }
+    }
+
+    private PushPayload toPayload(PushOutbox push) {
+        return new PushPayload(push.getType(), push.getTitle(), push.getBody(),
+                push.getRelatedId(), push.getThumbnailUrl(), push.getNotificationId());
+    }
+}
@@ -0,0 +1,96 @@
+package com.teamloci.loci.domain.notification;
+
+import com.teamloci.loci.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "push_outbox", indexes = {
+        @Index(name = "idx_push_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class PushOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "receiver_id")
+    private Long receiverId;
+
+    @Column(nullable = false, length = 512)
+    private String token;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(name = "related_id")
+    private Long relatedId;
+
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PushStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Builder
+    public PushOutbox(Long receiverId, String token, NotificationType type, String title, String body,
+                      Long relatedId, String thumbnailUrl, Long notificationId) {
+        this.receiverId = receiverId;
+        this.token = token;
+        this.type = type;
+        this.title = title;
+        this.body = body;
+        this.relatedId = relatedId;
+        this.thumbnailUrl = thumbnailUrl;
+        this.notificationId = notificationId;
+        this.status = PushStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void markSent() {
+        this.status = PushStatus.SENT;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void markFailed(String error, LocalDateTime retryAt) {
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+        if (retryAt == null) {
+            this.status = PushStatus.FAILED;
+        } else {
+            this.status = PushStatus.PENDING;
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.teamloci.loci.domain.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    @Query(value = """
+        SELECT id FROM push_outbox
+        WHERE status = 'PENDING' AND next_attempt_at <= :now
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PushOutbox o SET o.status = 'SENDING', o.attempts = o.attempts + 1, o.nextAttemptAt = :leaseUntil " +
+            "WHERE o.id IN :ids")
+    int markSending(@Param("ids") List<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE PushOutbox o SET o.status = 'PENDING' " +
+            "WHERE o.status = 'SENDING' AND o.nextAttemptAt < :now")
+    int requeueExpiredLeases(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE PushOutbox o SET o.status = 'PENDING', o.attempts = o.attempts - 1, o.nextAttemptAt = :now " +
+            "WHERE o.status = 'SENDING' AND o.id IN :ids")
+    int releaseClaim(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE PushOutbox o SET o.status = 'FAILED', o.lastError = 'TOKEN_PRUNED' " +
+            "WHERE o.status = 'PENDING' AND o.token IN :tokens")
+    int failPendingForTokens(@Param("tokens") List<String> tokens);
+
+    @Modifying
+    @Query("DELETE FROM PushOutbox o WHERE o.status IN ('SENT', 'FAILED') AND o.updatedAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,169 @@
+package com.teamloci.loci.domain.notification;
+
+import com.teamloci.loci.domain.notification.push.PushResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
+@Component
+public class PushOutboxWorker {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final Duration SEND_LEASE = Duration.ofMinutes(5);
+    private static final int RETENTION_DAYS = 7;
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final PushDispatcher pushDispatcher;
+    private final PushTokenPruner pushTokenPruner;
+    private final TaskExecutor pushExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlight;
+
+    @Value("${push.outbox.claim-size:1000}")
+    private int claimSize;
+
+    public PushOutboxWorker(PushOutboxRepository pushOutboxRepository,
+                            PushDispatcher pushDispatcher,
+                            PushTokenPruner pushTokenPruner,
+                            @Qualifier("pushExecutor") TaskExecutor pushExecutor,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${push.outbox.max-in-flight:4}") int maxInFlight) {
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.pushDispatcher = pushDispatcher;
+        this.pushTokenPruner = pushTokenPruner;
+        this.pushExecutor = pushExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @Scheduled(fixedDelayString = "${push.outbox.poll-interval-ms:500}")
+    public void poll() {
+        while (inFlight.tryAcquire()) {
+            List<PushOutbox> claimed;
+            try {
+                claimed = claim();
+            } catch (Exception e) {
+                inFlight.release();
+                log.error("[Push Outbox] 발송 대상 조회 실패", e);
+                return;
+            }
+
+            if (claimed.isEmpty()) {
+                inFlight.release();
+                return;
+            }
+
+            try {
+                pushExecutor.execute(() -> {
+                    try {
+                        deliver(claimed);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                inFlight.release();
+                log.warn("[Push Outbox] 발송 작업이 거절되어 {}건을 대기열로 되돌립니다: {}", claimed.size(), e.getMessage());
+                releaseClaim(claimed);
+                return;
+            }
+        }
+    }
+
+    private void releaseClaim(List<PushOutbox> claimed) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> pushOutboxRepository.releaseClaim(
+                    claimed.stream().map(PushOutbox::getId).toList(), LocalDateTime.now()));
+        } catch (Exception e) {
+            log.error("[Push Outbox] 거절된 발송 되돌리기 실패, 임대 만료 후 재시도됩니다: {}건", claimed.size(), e);
+        }
+    }
+
+    private List<PushOutbox> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = pushOutboxRepository.lockDueIds(now, claimSize);
+            if (ids.isEmpty()) return List.of();
+
+            pushOutboxRepository.markSending(ids, now.plus(SEND_LEASE));
+            return pushOutboxRepository.findAllById(ids);
+        });
+    }
+
+    private void deliver(List<PushOutbox> pushes) {
+        Map<Long, PushResult> results;
+        try {
+            results = pushDispatcher.send(pushes);
+        } catch (Exception e) {
+            log.error("[Push Outbox] 발송 중 오류 발생", e);
+            results = Map.of();
+        }
+
+        Map<Long, PushResult> finalResults = results;
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PushOutbox> managed = pushOutboxRepository.findAllById(pushes.stream().map(PushOutbox::getId).toList());
+            managed.forEach(push -> {
+                PushResult result = finalResults.get(push.getId());
+                if (result != null && result.success()) {
+                    push.markSent();
+                    count("sent");
+                } else if ((result != null && !result.retryable()) || push.getAttempts() >= MAX_ATTEMPTS) {
+                    push.markFailed(result != null ? result.error() : "NO_RESULT", null);
+                    count("failed");
+                } else {
+                    push.markFailed(result != null ? result.error() : "NO_RESULT", LocalDateTime.now().plus(backoff(push.getAttempts())));
+                    count("retry");
+                }
+            });
+            pushTokenPruner.apply(managed, finalResults);
+        });
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void requeueExpiredLeases() {
+        Integer requeued = transactionTemplate.execute(status ->
+                pushOutboxRepository.requeueExpiredLeases(LocalDateTime.now()));
+        if (requeued != null && requeued > 0) {
+            log.warn("[Push Outbox] 응답 없이 만료된 발송 {}건을 재시도 대기열로 되돌립니다.", requeued);
+        }
+    }
+
+    @Scheduled(cron = "0 10 4 * * *")
+    public void purgeFinished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                pushOutboxRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(RETENTION_DAYS)));
+        log.info("[Push Outbox] 오래된 발송 기록 {}건 삭제", deleted);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private void count(String result) {
+        Counter.builder("push.outbox.delivery")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
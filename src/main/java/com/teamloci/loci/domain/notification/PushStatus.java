@@ -0,0 +1,8 @@
+package com.teamloci.loci.domain.notification;
+
+public enum PushStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,82 @@
+package com.teamloci.loci.domain.notification;
+
+import com.teamloci.loci.domain.notification.push.PushResult;
+import com.teamloci.loci.domain.user.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushTokenPruner {
+
+    private static final int FAILURE_STREAK_THRESHOLD = 3;
+
+    private final UserRepository userRepository;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final MeterRegistry meterRegistry;
+
+    public void apply(List<PushOutbox> pushes, Map<Long, PushResult> results) {
+        Set<Long> deliveredUserIds = new HashSet<>();
+        Set<Long> deadUserIds = new HashSet<>();
+        Set<String> deadTokens = new HashSet<>();
+        Set<Long> failedUserIds = new HashSet<>();
+        Set<String> failedTokens = new HashSet<>();
+
+        for (PushOutbox push : pushes) {
+            PushResult result = results.get(push.getId());
+            if (result == null) continue;
+
+            if (result.success()) {
+                countResult("delivered");
+                if (push.getReceiverId() != null) deliveredUserIds.add(push.getReceiverId());
+            } else if (result.invalidToken()) {
+                countResult("dead_token");
+                deadTokens.add(push.getToken());
+                if (push.getReceiverId() != null) deadUserIds.add(push.getReceiverId());
+            } else {
+                countResult("failed");
+                if (!result.retryable() && push.getReceiverId() != null) {
+                    failedUserIds.add(push.getReceiverId());
+                    failedTokens.add(push.getToken());
+                }
+            }
+        }
+
+        if (!deliveredUserIds.isEmpty()) {
+            userRepository.resetPushFailureStreak(new ArrayList<>(deliveredUserIds));
+        }
+
+        int pruned = 0;
+        if (!failedUserIds.isEmpty()) {
+            List<Long> userIds = new ArrayList<>(failedUserIds);
+            userRepository.increasePushFailureStreak(userIds, new ArrayList<>(failedTokens));
+            pruned += userRepository.clearFcmTokensOverStreak(userIds, FAILURE_STREAK_THRESHOLD);
+        }
+
+        if (!deadTokens.isEmpty()) {
+            List<String> tokens = new ArrayList<>(deadTokens);
+            if (!deadUserIds.isEmpty()) {
+                pruned += userRepository.clearFcmTokens(new ArrayList<>(deadUserIds), tokens);
+            }
+            pushOutboxRepository.failPendingForTokens(tokens);
+        }
+
+        if (pruned > 0) {
+            Counter.builder("push.token.pruned").register(meterRegistry).increment(pruned);
+            log.info("[Push] 만료된 FCM 토큰 {}개를 정리했습니다.", pruned);
+        }
+    }
+
+    private void countResult(String outcome) {
+        Counter.builder("push.token.result")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
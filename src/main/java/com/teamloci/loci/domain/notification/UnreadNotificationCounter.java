@@ -0,0 +1,213 @@
+package com.teamloci.loci.domain.notification;
+
+import com.teamloci.loci.global.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String VERSION_PREFIX = "notification:unread-version:";
+    private static final Duration TTL = Duration.ofDays(7);
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private static final RedisScript<Long> ADD_IF_PRESENT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if value < 0 then
+                redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+                return 0
+            end
+            return value
+            """, Long.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            if redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3], 'NX') then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('SET', KEYS[1], 0, 'EX', ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시가 비어 있으면 DB에서 세어 채운다. 세는 동안 다른 요청이 수를 바꿨다면(버전 증가)
+     * 그 변경이 반영되지 않았을 수 있으므로 캐시에 쓰지 않는다.
+     */
+    public long get(Long userId) {
+        String key = key(userId);
+        String versionKey = versionKey(userId);
+        String version;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, versionKey));
+            String cached = values == null ? null : values.get(0);
+            if (cached != null) {
+                return Math.max(0, Long.parseLong(cached));
+            }
+            version = values == null || values.get(1) == null ? "0" : values.get(1);
+        } catch (Exception e) {
+            log.warn("안 읽은 알림 수 조회 실패: userId={}, {}", userId, e.getMessage());
+            return notificationRepository.countByReceiverIdAndIsReadFalse(userId);
+        }
+
+        long count = notificationRepository.countByReceiverIdAndIsReadFalse(userId);
+        try {
+            redisTemplate.execute(LOAD_SCRIPT, List.of(key, versionKey),
+                    version, String.valueOf(count), String.valueOf(TTL.getSeconds()));
+        } catch (Exception e) {
+            log.warn("안 읽은 알림 수 캐시 저장 실패: userId={}, {}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    public void increaseAfterCommit(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(userIds);
+        AfterCommit.run(() -> ids.forEach(id -> add(id, 1)));
+    }
+
+    public void decreaseAfterCommit(Long userId) {
+        AfterCommit.run(() -> add(userId, -1));
+    }
+
+    public void resetAfterCommit(Long userId) {
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.execute(RESET_SCRIPT, List.of(key(userId), versionKey(userId)), String.valueOf(TTL.getSeconds()));
+            } catch (Exception e) {
+                log.warn("안 읽은 알림 수 초기화 실패: userId={}, {}", userId, e.getMessage());
+                evict(userId);
+            }
+        });
+    }
+
+    public void evictAfterCommit(Long userId) {
+        AfterCommit.run(() -> evict(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${notification.unread.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        int checked = 0;
+        int drifted = 0;
+
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(KEY_PREFIX + "*")
+                .count(RECONCILE_BATCH_SIZE)
+                .build())) {
+            List<String> keys = new ArrayList<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() >= RECONCILE_BATCH_SIZE) {
+                    checked += keys.size();
+                    drifted += reconcileBatch(keys);
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty()) {
+                checked += keys.size();
+                drifted += reconcileBatch(keys);
+            }
+        } catch (Exception e) {
+            log.error("안 읽은 알림 수 보정 실패", e);
+            return;
+        }
+
+        if (drifted > 0) {
+            Counter.builder("notification.unread.drift").register(meterRegistry).increment(drifted);
+            log.info("안 읽은 알림 수 보정: {}명 중 {}명 불일치 캐시 삭제", checked, drifted);
+        }
+    }
+
+    private int reconcileBatch(List<String> keys) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) return 0;
+
+        Map<Long, Long> cached = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (values.get(i) == null) continue;
+            cached.put(userIdOf(keys.get(i)), Long.valueOf(values.get(i)));
+        }
+        if (cached.isEmpty()) return 0;
+
+        Map<Long, Long> actual = new HashMap<>();
+        notificationRepository.countUnreadByReceiverIds(new ArrayList<>(cached.keySet()))
+                .forEach(row -> actual.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue()));
+
+        List<Long> driftedUserIds = new ArrayList<>();
+        cached.forEach((userId, count) -> {
+            if (!count.equals(actual.getOrDefault(userId, 0L))) {
+                driftedUserIds.add(userId);
+            }
+        });
+
+        driftedUserIds.forEach(this::evict);
+        return driftedUserIds.size();
+    }
+
+    private void add(Long userId, long delta) {
+        try {
+            redisTemplate.execute(ADD_IF_PRESENT_SCRIPT, List.of(key(userId), versionKey(userId)),
+                    String.valueOf(delta), String.valueOf(TTL.getSeconds()));
+        } catch (Exception e) {
+            log.warn("안 읽은 알림 수 갱신 실패: userId={}, {}", userId, e.getMessage());
+            evict(userId);
+        }
+    }
+
+    private void evict(Long userId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key(userId), versionKey(userId)), String.valueOf(TTL.getSeconds()));
+        } catch (Exception e) {
+            log.warn("안 읽은 알림 수 캐시 삭제 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private String versionKey(Long userId) {
+        return VERSION_PREFIX + "{" + userId + "}";
+    }
+
+    private Long userIdOf(String key) {
+        return Long.valueOf(key.substring(KEY_PREFIX.length()).replace("{", "").replace("}", ""));
+    }
+}
@@ -0,0 +1,78 @@
+package com.teamloci.loci.domain.notification.push;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "push.gateway", havingValue = "fake")
+public class FakePushGateway implements PushGateway {
+
+    public static final String INVALID_TOKEN_PREFIX = "invalid-";
+
+    private final long latencyMs;
+    private final long latencyPerMessageMicros;
+    private final double failureRate;
+    private final double invalidTokenRate;
+    private final Counter delivered;
+
+    public FakePushGateway(@Value("${push.fake.latency-ms:80}") long latencyMs,
+                           @Value("${push.fake.latency-per-message-us:200}") long latencyPerMessageMicros,
+                           @Value("${push.fake.failure-rate:0.0}") double failureRate,
+                           @Value("${push.fake.invalid-token-rate:0.0}") double invalidTokenRate,
+                           MeterRegistry meterRegistry) {
+        this.latencyMs = latencyMs;
+        this.latencyPerMessageMicros = latencyPerMessageMicros;
+        this.failureRate = failureRate;
+        this.invalidTokenRate = invalidTokenRate;
+        this.delivered = Counter.builder("push.fake.delivered").register(meterRegistry);
+        log.warn("[Push] FakePushGateway 사용 중 - 실제 푸시가 발송되지 않습니다. (latency={}ms, failureRate={}, invalidTokenRate={})",
+                latencyMs, failureRate, invalidTokenRate);
+    }
+
+    @Override
+    public List<PushResult> sendMulticast(PushPayload payload, List<String> tokens) {
+        simulateLatency(tokens.size());
+        return tokens.stream().map(this::resultFor).toList();
+    }
+
+    @Override
+    public List<PushResult> sendEach(List<PushMessage> messages) {
+        simulateLatency(messages.size());
+
+        List<PushResult> results = new ArrayList<>(messages.size());
+        messages.forEach(m -> results.add(resultFor(m.token())));
+        return results;
+    }
+
+    private PushResult resultFor(String token) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (token.startsWith(INVALID_TOKEN_PREFIX) || random.nextDouble() < invalidTokenRate) {
+            return PushResult.invalidToken("UNREGISTERED: fake");
+        }
+        if (random.nextDouble() < failureRate) {
+            return PushResult.retryableFailure("UNAVAILABLE: fake");
+        }
+        delivered.increment();
+        return PushResult.ok();
+    }
+
+    private void simulateLatency(int messageCount) {
+        long micros = latencyMs * 1000 + latencyPerMessageMicros * messageCount;
+        if (micros <= 0) return;
+
+        try {
+            Thread.sleep(micros / 1000, (int) (micros % 1000) * 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
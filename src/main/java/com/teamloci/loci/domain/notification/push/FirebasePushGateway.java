@@ -0,0 +1,103 @@
+package com.teamloci.loci.domain.notification.push;
+
+import com.google.firebase.messaging.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "push.gateway", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushGateway implements PushGateway {
+
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.SENDER_ID_MISMATCH
+    );
+
+    @Override
+    public List<PushResult> sendMulticast(PushPayload payload, List<String> tokens) {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(buildNotification(payload))
+                .setApnsConfig(buildApnsConfig())
+                .putAllData(buildData(payload))
+                .build();
+
+        try {
+            return toResults(FirebaseMessaging.getInstance().sendEachForMulticast(message));
+        } catch (FirebaseMessagingException e) {
+            log.error(">>> [FCM Multicast Exception] <<<", e);
+            return Collections.nCopies(tokens.size(), toResult(e));
+        }
+    }
+
+    @Override
+    public List<PushResult> sendEach(List<PushMessage> messages) {
+        List<Message> fcmMessages = messages.stream()
+                .map(m -> Message.builder()
+                        .setToken(m.token())
+                        .setNotification(buildNotification(m.payload()))
+                        .setApnsConfig(buildApnsConfig())
+                        .putAllData(buildData(m.payload()))
+                        .build())
+                .toList();
+
+        try {
+            return toResults(FirebaseMessaging.getInstance().sendEach(fcmMessages));
+        } catch (FirebaseMessagingException e) {
+            log.error(">>> [FCM Send Exception] <<<", e);
+            return Collections.nCopies(messages.size(), toResult(e));
+        }
+    }
+
+    private List<PushResult> toResults(BatchResponse response) {
+        if (response.getFailureCount() > 0) {
+            log.warn(">>> [FCM Batch] Success: {}, Failure: {}", response.getSuccessCount(), response.getFailureCount());
+        }
+
+        return response.getResponses().stream()
+                .map(r -> r.isSuccessful() ? PushResult.ok() : toResult(r.getException()))
+                .toList();
+    }
+
+    private PushResult toResult(FirebaseMessagingException e) {
+        if (e == null) return PushResult.retryableFailure("UNKNOWN");
+
+        MessagingErrorCode code = e.getMessagingErrorCode();
+        String error = (code != null ? code.name() + ": " : "") + e.getMessage();
+
+        if (code != null && INVALID_TOKEN_ERRORS.contains(code)) return PushResult.invalidToken(error);
+        if (code == MessagingErrorCode.INVALID_ARGUMENT) return PushResult.permanentFailure(error);
+        return PushResult.retryableFailure(error);
+    }
+
+    private com.google.firebase.messaging.Notification buildNotification(PushPayload payload) {
+        com.google.firebase.messaging.Notification.Builder builder =
+                com.google.firebase.messaging.Notification.builder()
+                        .setTitle(payload.title())
+                        .setBody(payload.body());
+
+        if (payload.thumbnailUrl() != null && !payload.thumbnailUrl().isBlank()) {
+            builder.setImage(payload.thumbnailUrl());
+        }
+        return builder.build();
+    }
+
+    private ApnsConfig buildApnsConfig() {
+        return ApnsConfig.builder()
+                .setAps(Aps.builder().setSound("default").setContentAvailable(true).build())
+                .build();
+    }
+
+    private Map<String, String> buildData(PushPayload payload) {
+        Map<String, String> data = new HashMap<>();
+        data.put("type", payload.type().name());
+        data.put("targetNotificationId", payload.notificationId() != null ? String.valueOf(payload.notificationId()) : "-1");
+        data.put("relatedId", payload.relatedId() != null ? String.valueOf(payload.relatedId()) : "");
+        data.put("thumbnailUrl", payload.thumbnailUrl() != null ? payload.thumbnailUrl() : "");
+        return data;
+    }
+}
@@ -0,0 +1,12 @@
+package com.teamloci.loci.domain.notification.push;
+
+import java.util.List;
+
+public interface PushGateway {
+
+    int MAX_BATCH_SIZE = 500;
+
+    List<PushResult> sendMulticast(PushPayload payload, List<String> tokens);
+
+    List<PushResult> sendEach(List<PushMessage> messages);
+}
@@ -0,0 +1,162 @@
+package com.teamloci.loci.domain.notification.push;
+
+import com.teamloci.loci.domain.notification.DailyPushDedupStore;
+import com.teamloci.loci.domain.notification.NotificationType;
+import com.teamloci.loci.global.util.GlobalPushProgress;
+import com.teamloci.loci.global.util.LociPushService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class PushLoadTestRunner implements ApplicationRunner {
+
+    private static final String HANDLE_PREFIX = "lt_";
+    private static final int SEED_BATCH_SIZE = 5000;
+    private static final long POLL_INTERVAL_MS = 500;
+
+    private final PushGateway pushGateway;
+    private final LociPushService lociPushService;
+    private final JdbcTemplate jdbcTemplate;
+    private final DailyPushDedupStore dailyPushDedupStore;
+    private final GlobalPushProgress globalPushProgress;
+
+    @Value("${loadtest.push.users:100000}")
+    private int targetUsers;
+
+    @Value("${loadtest.push.invalid-token-ratio:0.01}")
+    private double invalidTokenRatio;
+
+    @Value("${loadtest.push.timeout-seconds:600}")
+    private long timeoutSeconds;
+
+    @Value("${loadtest.push.min-throughput:0}")
+    private double minThroughput;
+
+    @Value("${loadtest.push.max-failure-ratio:0.05}")
+    private double maxFailureRatio;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!(pushGateway instanceof FakePushGateway)) {
+            log.error("[LoadTest] push.gateway=fake 설정 없이 부하 테스트를 실행할 수 없습니다.");
+            return;
+        }
+
+        seedUsers();
+        LocalDate today = LocalDate.now();
+        for (LocalDate date = today.minusDays(1); !date.isAfter(today.plusDays(1)); date = date.plusDays(1)) {
+            dailyPushDedupStore.reset(NotificationType.LOCI_TIME, date);
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+
+        lociPushService.executeGlobalPush();
+        long enqueuedNanos = System.nanoTime() - start;
+        log.info("[LoadTest] 글로벌 푸시 호출 완료: {}ms", enqueuedNanos / 1_000_000);
+
+        long deadline = System.nanoTime() + timeoutSeconds * 1_000_000_000L;
+        long lastTotal = -1;
+        int stablePolls = 0;
+        while (System.nanoTime() < deadline && stablePolls < 3) {
+            Thread.sleep(POLL_INTERVAL_MS);
+
+            long total = countOutbox(startedAt, null);
+            long open = countOutbox(startedAt, "'PENDING', 'SENDING'");
+            stablePolls = (total > 0 && open == 0 && total == lastTotal) ? stablePolls + 1 : 0;
+            lastTotal = total;
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long total = countOutbox(startedAt, null);
+        long sent = countOutbox(startedAt, "'SENT'");
+        long failed = countOutbox(startedAt, "'FAILED'");
+        long open = countOutbox(startedAt, "'PENDING', 'SENDING'");
+
+        double throughput = (sent + failed) / elapsedSeconds;
+        log.info("[LoadTest] 결과: total={}, sent={}, failed={}, open={}, elapsed={}s, throughput={}/s",
+                total, sent, failed, open, String.format("%.1f", elapsedSeconds),
+                String.format("%.0f", throughput));
+
+        verify(total, sent, failed, open, throughput);
+    }
+
+    private void verify(long total, long sent, long failed, long open, double throughput) {
+        List<String> violations = new ArrayList<>();
+        if (total == 0) {
+            violations.add("발송 대상이 한 건도 적재되지 않았습니다");
+        }
+        if (total != globalPushProgress.pushedUsers()) {
+            violations.add(String.format("적재 건수(%d)와 발송 처리 인원(%d)이 다릅니다", total, globalPushProgress.pushedUsers()));
+        }
+        if (open > 0) {
+            violations.add(String.format("제한 시간 안에 끝나지 않은 발송 %d건", open));
+        }
+        if (total > 0 && (double) failed / total > maxFailureRatio) {
+            violations.add(String.format("실패율 %.3f 가 허용치 %.3f 를 넘었습니다", (double) failed / total, maxFailureRatio));
+        }
+        if (throughput < minThroughput) {
+            violations.add(String.format("처리량 %.0f/s 가 기준 %.0f/s 에 못 미칩니다", throughput, minThroughput));
+        }
+
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("[LoadTest] 부하 테스트 기준 미달: " + String.join(", ", violations));
+        }
+        log.info("[LoadTest] 부하 테스트 기준 통과 (sent={})", sent);
+    }
+
+    private void seedUsers() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE handle LIKE 'lt\\_%'", Integer.class);
+        int from = existing == null ? 0 : existing;
+        if (from >= targetUsers) return;
+
+        log.info("[LoadTest] 테스트 유저 {}명 생성 중...", targetUsers - from);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int batchStart = from; batchStart < targetUsers; batchStart += SEED_BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = batchStart; i < Math.min(batchStart + SEED_BATCH_SIZE, targetUsers); i++) {
+                boolean invalid = ThreadLocalRandom.current().nextDouble() < invalidTokenRatio;
+                rows.add(new Object[]{
+                        HANDLE_PREFIX + i,
+                        "loadtest" + i,
+                        HANDLE_PREFIX + i,
+                        (invalid ? FakePushGateway.INVALID_TOKEN_PREFIX : "fake-") + i,
+                        now,
+                        "L" + String.format("%7s", Integer.toString(i, 36)).replace(' ', '0')
+                });
+            }
+
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO users (handle, nickname, phone_search_hash, country_code, status, fcm_token, created_at,
+                        is_auto_archive, friend_count, post_count, streak_count, visited_place_count, total_intimacy_level,
+                        timezone, is_new_post_push_enabled, is_loci_time_push_enabled, bluetooth_token)
+                    VALUES (?, ?, ?, 'KR', 'ACTIVE', ?, ?, true, 0, 0, 0, 0, 0, 'Asia/Seoul', true, true, ?)
+                    """, rows);
+        }
+    }
+
+    private long countOutbox(LocalDateTime since, String statuses) {
+        String sql = "SELECT COUNT(*) FROM push_outbox WHERE created_at >= ?"
+                + (statuses != null ? " AND status IN (" + statuses + ")" : "");
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, Timestamp.valueOf(since));
+        return count == null ? 0 : count;
+    }
+}
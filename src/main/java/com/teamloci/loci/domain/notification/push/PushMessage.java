@@ -0,0 +1,4 @@
+package com.teamloci.loci.domain.notification.push;
+
+public record PushMessage(String token, PushPayload payload) {
+}
@@ -0,0 +1,6 @@
+package com.teamloci.loci.domain.notification.push;
+
+import com.teamloci.loci.domain.notification.NotificationType;
+
+public record PushPayload(NotificationType type, String title, String body, Long relatedId, String thumbnailUrl, Long notificationId) {
+}
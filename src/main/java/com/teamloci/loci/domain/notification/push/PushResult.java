@@ -0,0 +1,20 @@
+package com.teamloci.loci.domain.notification.push;
+
+public record PushResult(boolean success, boolean retryable, boolean invalidToken, String error) {
+
+    public static PushResult ok() {
+        return new PushResult(true, false, false, null);
+    }
+
+    public static PushResult invalidToken(String error) {
+        return new PushResult(false, false, true, error);
+    }
+
+    public static PushResult permanentFailure(String error) {
+        return new PushResult(false, false, false, error);
+    }
+
+    public static PushResult retryableFailure(String error) {
+        return new PushResult(false, true, false, error);
+    }
+}
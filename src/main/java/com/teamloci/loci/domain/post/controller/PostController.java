@@ -151,6 +151,7 @@ public class PostController {
                     `thumbnailImageUrl`은 CloudFront 리사이징 URL(`w300` 등)로 제공될 수 있습니다.
                     
                     * **필터링:** 나와 내 친구의 'ACTIVE' 상태인 게시물만 집계합니다.
+                    * **줌 레벨:** `zoom`을 전달하면 축소된 화면에서는 상위 H3 셀(해상도 5/7) 단위로 미리 집계된 마커를 반환합니다. (미전달 시 비콘 단위)
                     """)
     @GetMapping("/map")
     public ResponseEntity<CustomResponse<List<PostDto.MapMarkerResponse>>> getMapMarkers(
@@ -158,9 +159,10 @@ public class PostController {
             @Parameter(description = "SW 위도") @RequestParam Double minLat,
             @Parameter(description = "NE 위도") @RequestParam Double maxLat,
             @Parameter(description = "SW 경도") @RequestParam Double minLon,
-            @Parameter(description = "NE 경도") @RequestParam Double maxLon
+            @Parameter(description = "NE 경도") @RequestParam Double maxLon,
+            @Parameter(description = "지도 줌 레벨 (예: 5~18)") @RequestParam(required = false) Integer zoom
     ) {
-        return ResponseEntity.ok(CustomResponse.ok(postService.getMapMarkers(minLat, maxLat, minLon, maxLon, getUserId(user))));
+        return ResponseEntity.ok(CustomResponse.ok(postService.getMapMarkers(minLat, maxLat, minLon, maxLon, zoom, getUserId(user))));
     }
 
     @Operation(summary = "지도 마커 (Time Mode)",
@@ -34,7 +34,9 @@ import org.hibernate.annotations.ColumnDefault;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "posts", indexes = {
         @Index(name = "idx_beacon_id", columnList = "beacon_id"),
-        @Index(name = "idx_post_feed", columnList = "user_id, status, id DESC")
+        @Index(name = "idx_beacon_cell", columnList = "beacon_cell"),
+        @Index(name = "idx_post_feed", columnList = "user_id, status, id DESC"),
+        @Index(name = "idx_post_status_created_at", columnList = "status, created_at")
 })
 public class Post extends BaseTimeEntity {
 
@@ -72,6 +74,9 @@ public class Post extends BaseTimeEntity {
     @Column(name = "beacon_id", nullable = false, length = 64)
     private String beaconId;
 
+    @Column(name = "beacon_cell")
+    private Long beaconCell;
+
     @Column(name = "thumbnail_url", columnDefinition = "TEXT")
     private String thumbnailUrl;
 
@@ -91,12 +96,13 @@ public class Post extends BaseTimeEntity {
     private String description;
 
     @Builder
-    public Post(User user, Double latitude, Double longitude, String locationName, String beaconId, String thumbnailUrl, String description) {
+    public Post(User user, Double latitude, Double longitude, String locationName, String beaconId, Long beaconCell, String thumbnailUrl, String description) {
         this.user = user;
         this.latitude = latitude;
         this.longitude = longitude;
         this.locationName = locationName;
         this.beaconId = beaconId;
+        this.beaconCell = beaconCell;
         this.status = PostStatus.ACTIVE;
         this.thumbnailUrl = thumbnailUrl;
         this.description = description;
@@ -120,11 +126,12 @@ public class Post extends BaseTimeEntity {
         this.collaborators.clear();
     }
 
-    public void update(Double latitude, Double longitude, String locationName, String beaconId, String thumbnailUrl) {
+    public void update(Double latitude, Double longitude, String locationName, String beaconId, Long beaconCell, String thumbnailUrl) {
         this.latitude = latitude;
         this.longitude = longitude;
         this.locationName = locationName;
         this.beaconId = beaconId;
+        this.beaconCell = beaconCell;
         this.thumbnailUrl = thumbnailUrl;
     }
 
@@ -0,0 +1,29 @@
+package com.teamloci.loci.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_reaction_counts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_reaction_type", columnNames = {"post_id", "reaction_type"})
+})
+public class PostReactionCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reaction_type", nullable = false, length = 20)
+    private ReactionType reactionType;
+
+    @Column(nullable = false)
+    private long count;
+}
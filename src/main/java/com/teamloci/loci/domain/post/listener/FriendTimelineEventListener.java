@@ -0,0 +1,45 @@
+package com.teamloci.loci.domain.post.listener;
+
+import com.teamloci.loci.domain.friend.FriendGraphCache;
+import com.teamloci.loci.domain.post.entity.Post;
+import com.teamloci.loci.domain.post.event.PostCreatedEvent;
+import com.teamloci.loci.domain.post.service.FriendTimelineStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendTimelineEventListener {
+
+    private final FriendGraphCache friendGraphCache;
+    private final FriendTimelineStore friendTimelineStore;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostCreated(PostCreatedEvent event) {
+        Post post = event.getPost();
+        Long authorId = post.getUser().getId();
+
+        try {
+            List<Long> receiverIds = friendGraphCache.getFriendIds(authorId);
+            receiverIds.add(authorId);
+            Map<Long, String> generations = friendTimelineStore.generations(receiverIds);
+
+            long[] currentFriendIds = friendGraphCache.getFriendIdArray(authorId);
+            generations.keySet().removeIf(id -> !id.equals(authorId) && Arrays.binarySearch(currentFriendIds, id) < 0);
+
+            friendTimelineStore.fanOut(post.getId(), generations);
+        } catch (Exception e) {
+            log.error("[Timeline] 게시글 팬아웃 실패: postId={}", post.getId(), e);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.teamloci.loci.domain.post.listener;
 
-import com.teamloci.loci.domain.friend.FriendshipRepository;
+import com.teamloci.loci.domain.friend.FriendGraphCache;
 import com.teamloci.loci.domain.intimacy.entity.IntimacyType;
 import com.teamloci.loci.domain.intimacy.service.IntimacyService;
 import com.teamloci.loci.domain.notification.*;
@@ -10,6 +10,7 @@ import com.teamloci.loci.domain.post.event.PostCreatedEvent;
 import com.teamloci.loci.domain.post.repository.PostRepository;
 import com.teamloci.loci.domain.user.User;
 import com.teamloci.loci.domain.user.UserActivityService;
+import com.teamloci.loci.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
@@ -22,6 +23,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,9 +37,10 @@ public class PostEventListener {
     private final IntimacyService intimacyService;
     private final NotificationService notificationService;
     private final NotificationMessageProvider messageProvider;
-    private final FriendshipRepository friendshipRepository;
+    private final FriendGraphCache friendGraphCache;
+    private final UserRepository userRepository;
     private final PostRepository postRepository;
-    private final DailyPushLogRepository dailyPushLogRepository;
+    private final DailyPushDedupStore dailyPushDedupStore;
     private final CacheManager cacheManager;
     private final UserActivityService userActivityService;
 
@@ -67,8 +70,8 @@ public class PostEventListener {
             }
         }
 
-        List<User> friends = friendshipRepository.findActiveFriendsByUserId(authorId);
-        List<Long> friendIds = friends.stream().map(User::getId).toList();
+        List<Long> friendIds = friendGraphCache.getFriendIds(authorId);
+        List<User> friends = friendIds.isEmpty() ? List.of() : userRepository.findAllById(friendIds);
 
         List<User> visitedFriends = postRepository.findUsersWhoPostedInBeacon(post.getBeaconId(), friendIds);
 
@@ -126,22 +129,21 @@ public class PostEventListener {
                                 content.body(),
                                 post.getId(),
                                 post.getThumbnailUrl()
-                        );
+                        ).exceptionally(e -> {
+                            log.error("새 게시물 알림 발송 실패: {}명", group.size(), e);
+                            return null;
+                        });
                     });
                 }
             }
 
             if (!visitedFriends.isEmpty()) {
-                List<String> visitLogIds = visitedFriends.stream()
-                        .map(f -> "VISIT_" + today.toString() + "_" + f.getId())
-                        .toList();
-
-                Set<String> alreadySentIds = dailyPushLogRepository.findAllById(visitLogIds).stream()
-                        .map(DailyPushLog::getId)
-                        .collect(Collectors.toSet());
+                Map<Long, LocalDate> visitDates = new HashMap<>();
+                visitedFriends.forEach(f -> visitDates.put(f.getId(), today));
+                Set<Long> claimedIds = dailyPushDedupStore.claim(NotificationType.FRIEND_VISITED, visitDates);
 
                 List<User> targetVisitedFriends = visitedFriends.stream()
-                        .filter(f -> !alreadySentIds.contains("VISIT_" + today.toString() + "_" + f.getId()))
+                        .filter(f -> claimedIds.contains(f.getId()))
                         .collect(Collectors.toList());
 
                 if (!targetVisitedFriends.isEmpty()) {
@@ -151,26 +153,22 @@ public class PostEventListener {
                             ));
 
                     visitedByLang.forEach((lang, group) -> {
+                        List<Long> receiverIds = group.stream().map(User::getId).toList();
                         var content = messageProvider.getMessage(NotificationType.FRIEND_VISITED, lang, author.getNickname());
 
                         notificationService.sendMulticast(
-                                group.stream().map(User::getId).toList(),
+                                receiverIds,
                                 NotificationType.FRIEND_VISITED,
                                 content.title(),
                                 content.body(),
                                 post.getId(),
                                 post.getThumbnailUrl()
-                        );
+                        ).exceptionally(e -> {
+                            dailyPushDedupStore.release(NotificationType.FRIEND_VISITED, receiverIds, visitDates);
+                            log.error("방문 알림 발송 실패, 발송 기록을 되돌립니다: {}명", receiverIds.size(), e);
+                            return null;
+                        });
                     });
-
-                    List<DailyPushLog> logs = targetVisitedFriends.stream()
-                            .map(f -> new DailyPushLog(
-                                    "VISIT_" + today.toString() + "_" + f.getId(),
-                                    f.getId(),
-                                    today
-                            ))
-                            .collect(Collectors.toList());
-                    dailyPushLogRepository.saveAll(logs);
                 }
             }
 
@@ -0,0 +1,40 @@
+package com.teamloci.loci.domain.post.repository;
+
+import com.teamloci.loci.domain.post.entity.PostReactionCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostReactionCountRepository extends JpaRepository<PostReactionCount, Long> {
+
+    @Query("SELECT c FROM PostReactionCount c WHERE c.postId IN :postIds AND c.count > 0")
+    List<PostReactionCount> findAllByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO post_reaction_counts (post_id, reaction_type, count)
+        VALUES (:postId, :reactionType, GREATEST(:delta, 0))
+        ON DUPLICATE KEY UPDATE count = GREATEST(count + :delta, 0)
+    """, nativeQuery = true)
+    void applyDelta(@Param("postId") Long postId, @Param("reactionType") String reactionType, @Param("delta") long delta);
+
+    @Query(value = "SELECT MAX(post_id) FROM post_reactions", nativeQuery = true)
+    Long findMaxReactedPostId();
+
+    @Modifying
+    @Query(value = "DELETE FROM post_reaction_counts WHERE post_id >= :fromId AND post_id < :toId", nativeQuery = true)
+    int deleteInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO post_reaction_counts (post_id, reaction_type, count)
+        SELECT r.post_id, r.type, COUNT(*)
+        FROM post_reactions r
+        WHERE r.post_id >= :fromId AND r.post_id < :toId
+        GROUP BY r.post_id, r.type
+    """, nativeQuery = true)
+    int rebuildInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
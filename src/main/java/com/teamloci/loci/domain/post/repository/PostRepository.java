@@ -70,6 +70,15 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "ORDER BY p.id DESC")
     List<Post> findByUserIdInWithCursor(@Param("userIds") List<Long> userIds, @Param("cursorId") Long cursorId, Pageable pageable);
 
+    @Query("SELECT p.id FROM Post p " +
+            "WHERE p.user.id IN :userIds " +
+            "AND p.status = 'ACTIVE' " +
+            "ORDER BY p.id DESC")
+    List<Long> findActivePostIdsByUserIds(@Param("userIds") List<Long> userIds, Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.id IN :postIds")
+    List<Post> findAllWithUserByIdIn(@Param("postIds") List<Long> postIds);
+
     @Query(value = "SELECT p.beacon_id, COUNT(*), " +
             "(" +
             "   SELECT p2.thumbnail_url " +
@@ -103,6 +112,37 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             @Param("myUserId") Long myUserId
     );
 
+    @Query(value = "SELECT p.beacon_id, COUNT(*), " +
+            "(" +
+            "   SELECT p2.thumbnail_url " +
+            "   FROM posts p2 " +
+            "   WHERE p2.beacon_id = p.beacon_id " +
+            "   AND (p2.status = 'ACTIVE' OR (p2.user_id = :myUserId AND p2.status = 'ARCHIVED')) " +
+            "   AND (p2.user_id = :myUserId OR p2.user_id IN (" +
+            "       SELECT f.receiver_id FROM friendships f WHERE f.requester_id = :myUserId AND f.status = 'FRIENDSHIP' " +
+            "       UNION " +
+            "       SELECT f.requester_id FROM friendships f WHERE f.receiver_id = :myUserId AND f.status = 'FRIENDSHIP'" +
+            "   )) " +
+            "   AND p2.user_id NOT IN (SELECT blocked_id FROM user_block WHERE blocker_id = :myUserId) " +
+            "   ORDER BY p2.id DESC " +
+            "   LIMIT 1" +
+            ") as thumbnail_url, " +
+            "MAX(p.created_at) as latest_posted_at " +
+            "FROM posts p " +
+            "WHERE p.beacon_id IN :beaconIds " +
+            "AND (p.status = 'ACTIVE' OR (p.user_id = :myUserId AND p.status = 'ARCHIVED')) " +
+            "AND (p.user_id = :myUserId OR p.user_id IN (" +
+            "   SELECT f.receiver_id FROM friendships f WHERE f.requester_id = :myUserId AND f.status = 'FRIENDSHIP' " +
+            "   UNION " +
+            "   SELECT f.requester_id FROM friendships f WHERE f.receiver_id = :myUserId AND f.status = 'FRIENDSHIP'" +
+            ")) " +
+            "AND p.user_id NOT IN (SELECT blocked_id FROM user_block WHERE blocker_id = :myUserId) " +
+            "GROUP BY p.beacon_id", nativeQuery = true)
+    List<Object[]> findMapMarkersInBeacons(
+            @Param("beaconIds") List<String> beaconIds,
+            @Param("myUserId") Long myUserId
+    );
+
     @Query("SELECT DISTINCT p FROM Post p " +
             "LEFT JOIN FETCH p.mediaList " +
             "WHERE p.id IN (" +
@@ -142,23 +182,6 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         """, nativeQuery = true)
     List<Object[]> findVisitedPlacesByUserId(@Param("userId") Long userId);
 
-    @Query("""
-        SELECT DISTINCT p.user 
-        FROM Post p 
-        WHERE p.beaconId IN :beaconIds 
-          AND p.user.id IN :friendIds 
-          AND p.status = 'ACTIVE'
-        ORDER BY p.createdAt DESC
-        """)
-    List<User> findFriendsInBeacons(@Param("beaconIds") List<String> beaconIds,
-                                    @Param("friendIds") List<Long> friendIds,
-                                    Pageable pageable);
-
-    @Query("SELECT COUNT(DISTINCT p.user) FROM Post p WHERE p.beaconId IN :beaconIds AND p.user.id IN :friendIds AND p.status = 'ACTIVE'")
-    Long countFriendsInBeacons(@Param("beaconIds") List<String> beaconIds, @Param("friendIds") List<Long> friendIds);
-
-    boolean existsByBeaconIdInAndUserId(List<String> beaconIds, Long userId);
-
     @Query("SELECT DISTINCT p.user FROM Post p " +
             "WHERE p.beaconId = :beaconId " +
             "AND p.user.id IN :friendIds")
@@ -167,10 +190,9 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Post p SET p.status = 'ARCHIVED' " +
-            "WHERE p.status = 'ACTIVE' " +
-            "AND p.createdAt < :expiryDate " +
-            "AND p.user.id IN (SELECT u.id FROM User u WHERE u.isAutoArchive = true)")
-    int archiveOldPosts(@Param("expiryDate") LocalDateTime expiryDate);
+            "WHERE p.id IN :postIds " +
+            "AND p.status = 'ACTIVE'")
+    int archivePostsByIds(@Param("postIds") List<Long> postIds);
 
     long countByUserIdAndStatus(Long userId, PostStatus status);
 
@@ -244,9 +266,18 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     Optional<Post> findTopByUserIdAndStatusOrderByIdDesc(Long userId, PostStatus status);
 
-    @Query("SELECT p.user.id, p.beaconId FROM Post p " +
+    @Query("SELECT MIN(p.id), MAX(p.id) FROM Post p " +
             "WHERE p.status = 'ACTIVE' " +
             "AND p.createdAt < :expiryDate")
-    List<Object[]> findTargetsToArchive(@Param("expiryDate") LocalDateTime expiryDate);
+    List<Object[]> findArchiveIdRange(@Param("expiryDate") LocalDateTime expiryDate);
+
+    @Query("SELECT p.id, p.user.id, p.beaconId FROM Post p " +
+            "WHERE p.id >= :fromId AND p.id < :toId " +
+            "AND p.status = 'ACTIVE' " +
+            "AND p.createdAt < :expiryDate " +
+            "AND p.user.isAutoArchive = true")
+    List<Object[]> findArchiveTargetsInRange(@Param("fromId") Long fromId,
+                                             @Param("toId") Long toId,
+                                             @Param("expiryDate") LocalDateTime expiryDate);
 
 }
\ No newline at end of file
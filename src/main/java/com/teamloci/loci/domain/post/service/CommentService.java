@@ -1,8 +1,5 @@
 package com.teamloci.loci.domain.post.service;
 
-import com.teamloci.loci.domain.friend.Friendship;
-import com.teamloci.loci.domain.friend.FriendshipRepository;
-import com.teamloci.loci.domain.intimacy.entity.FriendshipIntimacy;
 import com.teamloci.loci.domain.intimacy.entity.IntimacyType;
 import com.teamloci.loci.domain.intimacy.service.IntimacyService;
 import com.teamloci.loci.domain.notification.NotificationService;
@@ -17,7 +14,6 @@ import com.teamloci.loci.domain.post.repository.PostRepository;
 import com.teamloci.loci.domain.user.*;
 import com.teamloci.loci.global.error.CustomException;
 import com.teamloci.loci.global.error.ErrorCode;
-import com.teamloci.loci.global.util.RelationUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
@@ -37,11 +33,12 @@ public class CommentService {
     private final PostCommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final FriendshipRepository friendshipRepository;
     private final NotificationService notificationService;
     private final UserActivityService userActivityService;
     private final IntimacyService intimacyService;
     private final ApplicationEventPublisher eventPublisher;
+    private final UserCardLoader userCardLoader;
+    private final PostCounterService postCounterService;
 
     private static final Pattern MENTION_PATTERN = Pattern.compile("@([a-z0-9._]+)");
 
@@ -61,7 +58,7 @@ public class CommentService {
         PostComment savedComment = commentRepository.save(comment);
         eventPublisher.publishEvent(new CommentCreatedEvent(user));
 
-        postRepository.increaseCommentCount(postId);
+        postCounterService.increaseCommentCount(postId);
 
         if (!post.getUser().getId().equals(userId)) {
             intimacyService.accumulatePoint(userId, post.getUser().getId(), IntimacyType.COMMENT, null);
@@ -159,25 +156,9 @@ public class CommentService {
         }
         Long nextCursor = comments.isEmpty() ? null : comments.get(comments.size() - 1).getId();
 
-        Set<Long> authorIds = comments.stream()
+        userCardLoader.load(myUserId, comments.stream()
                 .map(c -> c.getUser().getId())
-                .collect(Collectors.toSet());
-        List<Long> targetUserIds = new ArrayList<>(authorIds);
-
-        Set<Long> otherIds = authorIds.stream().filter(id -> !id.equals(myUserId)).collect(Collectors.toSet());
-        Map<Long, Friendship> friendshipMap;
-        if (otherIds.isEmpty()) {
-            friendshipMap = Map.of();
-        } else {
-            friendshipMap = friendshipRepository.findAllRelationsBetween(myUserId, otherIds.stream().toList()).stream()
-                    .collect(Collectors.toMap(
-                            f -> f.getRequester().getId().equals(myUserId) ? f.getReceiver().getId() : f.getRequester().getId(),
-                            f -> f
-                    ));
-        }
-
-        Map<Long, UserActivityService.UserStats> statsMap = userActivityService.getUserStatsMap(new ArrayList<>(authorIds));
-        Map<Long, FriendshipIntimacy> intimacyMap = intimacyService.getIntimacyMap(myUserId, targetUserIds);
+                .collect(Collectors.toSet()));
 
         List<CommentDto.Response> commentDtos = comments.stream()
                 .map(c -> {
@@ -186,26 +167,7 @@ public class CommentService {
                         contentToDisplay = "신고 누적으로 블라인드 처리된 댓글입니다.";
                     }
 
-                    Long userId = c.getUser().getId();
-                    var stats = statsMap.getOrDefault(userId, new UserActivityService.UserStats(0,0,0,0,0));
-
-                    String status;
-                    if (userId.equals(myUserId)) {
-                        status = "SELF";
-                    } else {
-                        status = RelationUtil.resolveStatus(friendshipMap.get(userId), myUserId);
-                    }
-
-                    UserDto.UserResponse userResp = UserDto.UserResponse.of(
-                            c.getUser(),
-                            status,
-                            stats.friendCount(),
-                            stats.postCount(),
-                            stats.streakCount(),
-                            stats.visitedPlaceCount()
-                    );
-
-                    userResp.applyIntimacyInfo(intimacyMap.get(userId), stats.totalIntimacyLevel());
+                    UserDto.UserResponse userResp = userCardLoader.toResponse(myUserId, c.getUser());
 
                     return CommentDto.Response.builder()
                             .id(c.getId())
@@ -240,6 +202,6 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
-        postRepository.decreaseCommentCount(postId);
+        postCounterService.decreaseCommentCount(postId);
     }
 }
\ No newline at end of file
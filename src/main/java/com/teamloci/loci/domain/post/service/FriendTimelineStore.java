@@ -0,0 +1,175 @@
+package com.teamloci.loci.domain.post.service;
+
+import com.teamloci.loci.global.cache.CacheGeneration;
+import com.teamloci.loci.global.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 타임라인 키에 유저별 세대 번호를 붙인다. 재구성과 팬아웃은 친구 목록을 확인한 시점의 세대 키에만 쓰므로,
+ * 친구 관계가 바뀌어 세대가 올라간 뒤에 도착한 이전 목록 기준의 쓰기는 읽히지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendTimelineStore {
+
+    public static final int MAX_SIZE = 500;
+
+    private static final String KEY_PREFIX = "timeline:friend:";
+    private static final String GENERATION_PREFIX = "timeline:friend:gen:";
+    private static final String READY_MARKER = "0";
+    private static final Duration TTL = Duration.ofDays(3);
+
+    private static final RedisScript<Long> FAN_OUT_SCRIPT = new DefaultRedisScript<>(
+            "local n = 0 " +
+            "for _, key in ipairs(KEYS) do " +
+            "  if redis.call('EXISTS', key) == 1 then " +
+            "    redis.call('ZADD', key, ARGV[1], ARGV[1]) " +
+            "    redis.call('ZREMRANGEBYRANK', key, 1, -(tonumber(ARGV[2]) + 1)) " +
+            "    n = n + 1 " +
+            "  end " +
+            "end " +
+            "return n", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheGeneration cacheGeneration;
+
+    public record TimelinePage(List<Long> postIds, boolean complete) {}
+
+    public String generation(Long userId) {
+        return cacheGeneration.current(GENERATION_PREFIX + userId);
+    }
+
+    public Map<Long, String> generations(Collection<Long> userIds) {
+        List<Long> targets = userIds.stream().distinct().toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                targets.stream().map(id -> GENERATION_PREFIX + id).toList());
+
+        Map<Long, String> result = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            result.put(targets.get(i), value == null ? "0" : value);
+        }
+        return result;
+    }
+
+    public Optional<TimelinePage> read(Long userId, Long cursorId, int limit) {
+        String key = key(userId, generation(userId));
+        double max = cursorId == null ? Double.POSITIVE_INFINITY : cursorId - 1;
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                ZSetOperations<String, String> zSet = operations.opsForZSet();
+                zSet.score(key, READY_MARKER);
+                zSet.zCard(key);
+                zSet.reverseRangeByScore(key, 1, max, 0, limit);
+                return null;
+            }
+        });
+
+        if (results.get(0) == null) {
+            return Optional.empty();
+        }
+
+        long storedCount = ((Number) results.get(1)).longValue() - 1;
+
+        @SuppressWarnings("unchecked")
+        Set<String> members = (Set<String>) results.get(2);
+        List<Long> postIds = members == null ? List.of() : members.stream().map(Long::valueOf).toList();
+
+        boolean complete = postIds.size() >= limit || storedCount < MAX_SIZE;
+        return Optional.of(new TimelinePage(postIds, complete));
+    }
+
+    public void rebuild(Long userId, String generation, List<Long> postIds) {
+        String key = key(userId, generation);
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(new DefaultTypedTuple<>(READY_MARKER, 0d));
+        postIds.stream()
+                .limit(MAX_SIZE)
+                .forEach(id -> tuples.add(new DefaultTypedTuple<>(String.valueOf(id), id.doubleValue())));
+
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                operations.delete(key);
+                operations.opsForZSet().add(key, tuples);
+                operations.expire(key, TTL);
+                return operations.exec();
+            }
+        });
+    }
+
+    public void fanOut(Long postId, Map<Long, String> generations) {
+        if (generations.isEmpty()) return;
+
+        List<String> keys = generations.entrySet().stream()
+                .map(e -> key(e.getKey(), e.getValue()))
+                .toList();
+        redisTemplate.execute(FAN_OUT_SCRIPT, keys, String.valueOf(postId), String.valueOf(MAX_SIZE));
+    }
+
+    public void removePosts(Long userId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+
+        redisTemplate.opsForZSet().remove(key(userId, generation(userId)), postIds.stream().map(String::valueOf).toArray());
+    }
+
+    public void removePostAfterCommit(Long postId, Collection<Long> userIds) {
+        afterCommit(() -> {
+            List<String> keys = generations(userIds).entrySet().stream()
+                    .map(e -> key(e.getKey(), e.getValue()))
+                    .toList();
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    keys.forEach(key -> operations.opsForZSet().remove(key, String.valueOf(postId)));
+                    return null;
+                }
+            });
+        });
+    }
+
+    public void evictAfterCommit(Long... userIds) {
+        List<Long> targets = Arrays.stream(userIds).distinct().toList();
+        afterCommit(() -> targets.forEach(userId -> {
+            long generation = cacheGeneration.bump(GENERATION_PREFIX + userId);
+            redisTemplate.delete(key(userId, String.valueOf(generation - 1)));
+        }));
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("[Timeline] 타임라인 갱신 실패", e);
+            }
+        };
+
+        AfterCommit.run(safeAction);
+    }
+
+    private String key(Long userId, String generation) {
+        return KEY_PREFIX + userId + ":" + generation;
+    }
+}
@@ -0,0 +1,174 @@
+package com.teamloci.loci.domain.post.service;
+
+import com.teamloci.loci.domain.post.repository.PostRepository;
+import com.teamloci.loci.domain.stat.repository.UserBeaconStatsRepository;
+import com.teamloci.loci.domain.stat.repository.UserCellStatsRepository;
+import com.teamloci.loci.domain.stat.service.BeaconPresenceIndex;
+import com.teamloci.loci.global.util.GeoUtils;
+import com.teamloci.loci.global.util.RedisLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostArchiveJob {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String CHECKPOINT_KEY = "job:post-archive:checkpoint";
+    private static final String LOCK_KEY = "job:post-archive:lock";
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(2);
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final PostRepository postRepository;
+    private final UserBeaconStatsRepository userBeaconStatsRepository;
+    private final UserCellStatsRepository userCellStatsRepository;
+    private final BeaconPresenceIndex beaconPresenceIndex;
+    private final GeoUtils geoUtils;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLock redisLock;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private record ChunkResult(int archived, int touchedStats) {}
+
+    public void run(LocalDateTime expiryDate) {
+        run(expiryDate, null);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        try {
+            List<Object> checkpoint = redisTemplate.opsForHash().multiGet(CHECKPOINT_KEY, List.of("expiryDate", "lastId"));
+            if (checkpoint.get(0) == null || checkpoint.get(1) == null) return;
+
+            LocalDateTime expiryDate = LocalDateTime.parse((String) checkpoint.get(0));
+            long lastId = Long.parseLong((String) checkpoint.get(1));
+
+            log.info("[Archive] 중단된 보관 작업을 재개합니다. (기준: {}, lastId={})", expiryDate, lastId);
+            run(expiryDate, lastId);
+        } catch (Exception e) {
+            log.error("[Archive] 보관 작업 재개 실패", e);
+        }
+    }
+
+    private void run(LocalDateTime expiryDate, Long resumeFromId) {
+        String lockToken = redisLock.tryAcquire(LOCK_KEY, LOCK_TTL);
+        if (lockToken == null) {
+            log.info("[Archive] 다른 인스턴스에서 보관 작업이 진행 중입니다.");
+            return;
+        }
+
+        try {
+            List<Object[]> range = postRepository.findArchiveIdRange(expiryDate);
+            Object[] bounds = range.isEmpty() ? null : range.get(0);
+            if (bounds == null || bounds[0] == null) {
+                log.info("[Archive] 보관 대상 게시글이 없습니다.");
+                redisTemplate.delete(CHECKPOINT_KEY);
+                return;
+            }
+
+            long fromId = Math.max((Long) bounds[0], resumeFromId == null ? 0L : resumeFromId + 1);
+            long maxId = (Long) bounds[1];
+
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            Timer chunkTimer = Timer.builder("post.archive.chunk.duration").register(meterRegistry);
+            Counter archivedCounter = Counter.builder("post.archive.archived").register(meterRegistry);
+            Counter statsCounter = Counter.builder("post.archive.stats_synced").register(meterRegistry);
+
+            long totalArchived = 0L;
+            while (fromId <= maxId) {
+                final long chunkFrom = fromId;
+                final long chunkTo = Math.min(fromId + CHUNK_SIZE, maxId + 1);
+
+                ChunkResult result = chunkTimer.record(() ->
+                        template.execute(status -> archiveChunk(chunkFrom, chunkTo, expiryDate)));
+
+                if (result != null) {
+                    archivedCounter.increment(result.archived());
+                    statsCounter.increment(result.touchedStats());
+                    totalArchived += result.archived();
+                }
+
+                saveCheckpoint(expiryDate, chunkTo - 1);
+                fromId = chunkTo;
+
+                if (!redisLock.extend(LOCK_KEY, lockToken, LOCK_TTL)) {
+                    log.warn("[Archive] 작업 락을 잃어 중단합니다. 체크포인트(lastId={})에서 재개됩니다.", chunkTo - 1);
+                    return;
+                }
+            }
+
+            redisTemplate.delete(CHECKPOINT_KEY);
+            log.info("[Archive] 총 {}개의 게시글 상태가 ARCHIVED로 변경되었습니다.", totalArchived);
+        } finally {
+            redisLock.release(LOCK_KEY, lockToken);
+        }
+    }
+
+    private ChunkResult archiveChunk(long fromId, long toId, LocalDateTime expiryDate) {
+        List<Object[]> targets = postRepository.findArchiveTargetsInRange(fromId, toId, expiryDate);
+        if (targets.isEmpty()) return new ChunkResult(0, 0);
+
+        List<Long> postIds = new ArrayList<>(targets.size());
+        Set<Long> userIds = new HashSet<>();
+        Set<String> beaconIds = new HashSet<>();
+        for (Object[] row : targets) {
+            postIds.add((Long) row[0]);
+            userIds.add((Long) row[1]);
+            beaconIds.add((String) row[2]);
+        }
+
+        int archived = postRepository.archivePostsByIds(postIds);
+
+        int touchedStats = userBeaconStatsRepository.syncStatsForPosts(postIds)
+                + userBeaconStatsRepository.deleteEmptyStatsForPosts(postIds);
+
+        syncParentCells(new ArrayList<>(userIds), beaconIds);
+        beaconPresenceIndex.evictAfterCommit(beaconIds);
+
+        return new ChunkResult(archived, touchedStats);
+    }
+
+    private void syncParentCells(List<Long> userIds, Set<String> beaconIds) {
+        for (int resolution : new int[]{GeoUtils.REGION_RESOLUTION, GeoUtils.CITY_RESOLUTION}) {
+            Set<String> cells = new HashSet<>();
+            for (String beaconId : beaconIds) {
+                String cell = geoUtils.toParentCell(beaconId, resolution);
+                if (cell != null) cells.add(cell);
+            }
+            if (cells.isEmpty()) continue;
+
+            List<String> cellIds = new ArrayList<>(cells);
+            userCellStatsRepository.syncCells(resolution, userIds, cellIds);
+            userCellStatsRepository.deleteEmptyCells(resolution, userIds, cellIds);
+        }
+    }
+
+    private void saveCheckpoint(LocalDateTime expiryDate, long lastId) {
+        try {
+            redisTemplate.opsForHash().putAll(CHECKPOINT_KEY, Map.of(
+                    "expiryDate", expiryDate.toString(),
+                    "lastId", String.valueOf(lastId)
+            ));
+            redisTemplate.expire(CHECKPOINT_KEY, CHECKPOINT_TTL);
+        } catch (Exception e) {
+            log.warn("[Archive] 체크포인트 저장 실패: lastId={}, {}", lastId, e.getMessage());
+        }
+    }
+}
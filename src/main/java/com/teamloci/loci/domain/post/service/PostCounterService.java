@@ -0,0 +1,141 @@
+package com.teamloci.loci.domain.post.service;
+
+import com.teamloci.loci.domain.post.dto.PostDto;
+import com.teamloci.loci.domain.post.repository.PostRepository;
+import com.teamloci.loci.global.counter.DeltaBufferFlusher;
+import com.teamloci.loci.global.counter.RedisDeltaBuffer;
+import com.teamloci.loci.global.util.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class PostCounterService {
+
+    private static final String REACTION_COUNT = "reaction_count";
+    private static final String COMMENT_COUNT = "comment_count";
+
+    private final PostRepository postRepository;
+    private final DeltaBufferFlusher deltaBufferFlusher;
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisDeltaBuffer reactionBuffer;
+    private final RedisDeltaBuffer commentBuffer;
+    private final TransactionTemplate fallbackTemplate;
+
+    @Value("${feature.write-behind-post-counters:true}")
+    private boolean writeBehind;
+
+    public PostCounterService(PostRepository postRepository,
+                              DeltaBufferFlusher deltaBufferFlusher,
+                              JdbcTemplate jdbcTemplate,
+                              StringRedisTemplate redisTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.deltaBufferFlusher = deltaBufferFlusher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.reactionBuffer = new RedisDeltaBuffer("post:reaction", redisTemplate);
+        this.commentBuffer = new RedisDeltaBuffer("post:comment", redisTemplate);
+        this.fallbackTemplate = new TransactionTemplate(transactionManager);
+        this.fallbackTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void increaseReactionCount(Long postId) {
+        if (!writeBehind) {
+            postRepository.increaseReactionCount(postId);
+            return;
+        }
+        addAfterCommit(reactionBuffer, REACTION_COUNT, postId, 1);
+    }
+
+    public void decreaseReactionCount(Long postId) {
+        if (!writeBehind) {
+            postRepository.decreaseReactionCount(postId);
+            return;
+        }
+        addAfterCommit(reactionBuffer, REACTION_COUNT, postId, -1);
+    }
+
+    public void increaseCommentCount(Long postId) {
+        if (!writeBehind) {
+            postRepository.increaseCommentCount(postId);
+            return;
+        }
+        addAfterCommit(commentBuffer, COMMENT_COUNT, postId, 1);
+    }
+
+    public void decreaseCommentCount(Long postId) {
+        if (!writeBehind) {
+            postRepository.decreaseCommentCount(postId);
+            return;
+        }
+        addAfterCommit(commentBuffer, COMMENT_COUNT, postId, -1);
+    }
+
+    public void applyPendingCounts(List<PostDto.PostDetailResponse> posts) {
+        if (!writeBehind || posts.isEmpty()) return;
+
+        List<Long> postIds = posts.stream().map(PostDto.PostDetailResponse::getId).toList();
+        try {
+            Map<Long, Long> reactionDeltas = deltaBufferFlusher.pendingDeltas(reactionBuffer, postIds);
+            Map<Long, Long> commentDeltas = deltaBufferFlusher.pendingDeltas(commentBuffer, postIds);
+            if (reactionDeltas.isEmpty() && commentDeltas.isEmpty()) return;
+
+            for (PostDto.PostDetailResponse p : posts) {
+                long reactionDelta = reactionDeltas.getOrDefault(p.getId(), 0L);
+                if (reactionDelta != 0) {
+                    p.setReactionCount(Math.max(0L, nullToZero(p.getReactionCount()) + reactionDelta));
+                }
+                long commentDelta = commentDeltas.getOrDefault(p.getId(), 0L);
+                if (commentDelta != 0) {
+                    p.setCommentCount(Math.max(0L, nullToZero(p.getCommentCount()) + commentDelta));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[Counter] 미반영 카운트 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${counter.post.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            deltaBufferFlusher.flush(reactionBuffer, deltas -> applyDeltas(REACTION_COUNT, deltas));
+            deltaBufferFlusher.flush(commentBuffer, deltas -> applyDeltas(COMMENT_COUNT, deltas));
+        } catch (Exception e) {
+            log.error("[Counter] 게시글 카운트 반영 실패", e);
+        }
+    }
+
+    private void applyDeltas(String column, Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[]{delta, postId}));
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE posts SET " + column + " = GREATEST(" + column + " + ?, 0) WHERE id = ?", args);
+    }
+
+    private void addAfterCommit(RedisDeltaBuffer buffer, String column, Long postId, long delta) {
+        AfterCommit.run(() -> {
+            try {
+                buffer.add(postId, delta);
+            } catch (Exception e) {
+                log.error("[Counter] 카운트 버퍼 기록 실패, DB에 직접 반영합니다: counter={}, postId={}", buffer.getName(), postId, e);
+                fallbackTemplate.executeWithoutResult(status -> applyDeltas(column, Map.of(postId, delta)));
+            }
+        });
+    }
+
+    private long nullToZero(Long value) {
+        return value == null ? 0L : value;
+    }
+}
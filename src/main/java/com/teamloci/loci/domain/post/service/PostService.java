@@ -1,26 +1,26 @@
 package com.teamloci.loci.domain.post.service;
 
+import com.teamloci.loci.domain.block.BlockSet;
 import com.teamloci.loci.domain.block.UserBlockService;
-import com.teamloci.loci.domain.friend.Friendship;
-import com.teamloci.loci.domain.friend.FriendshipRepository;
-import com.teamloci.loci.domain.friend.FriendshipStatus;
-import com.teamloci.loci.domain.intimacy.entity.FriendshipIntimacy;
-import com.teamloci.loci.domain.intimacy.service.IntimacyService;
+import com.teamloci.loci.domain.friend.FriendGraphCache;
+import com.teamloci.loci.domain.friend.SocialGraph;
 import com.teamloci.loci.domain.post.dto.PostDto;
 import com.teamloci.loci.domain.post.entity.*;
 import com.teamloci.loci.domain.post.event.PostCreatedEvent;
 import com.teamloci.loci.domain.post.repository.PostReactionRepository;
 import com.teamloci.loci.domain.post.repository.PostRepository;
-import com.teamloci.loci.domain.stat.entity.UserBeaconStats;
 import com.teamloci.loci.domain.stat.repository.UserBeaconStatsRepository;
+import com.teamloci.loci.domain.stat.repository.UserCellStatsRepository;
+import com.teamloci.loci.domain.stat.service.BeaconPresenceIndex;
+import com.teamloci.loci.domain.stat.service.UserCellStatsService;
 import com.teamloci.loci.domain.user.User;
 import com.teamloci.loci.domain.user.UserDto;
 import com.teamloci.loci.domain.user.UserRepository;
 import com.teamloci.loci.domain.user.UserActivityService;
+import com.teamloci.loci.domain.user.UserCardLoader;
 import com.teamloci.loci.global.error.CustomException;
 import com.teamloci.loci.global.error.ErrorCode;
 import com.teamloci.loci.global.util.GeoUtils;
-import com.teamloci.loci.global.util.RelationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -42,20 +42,32 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final FriendshipRepository friendshipRepository;
+    private final SocialGraph socialGraph;
     private final UserBlockService userBlockService;
     private final PostReactionRepository reactionRepository;
     private final GeoUtils geoUtils;
     private final UserActivityService userActivityService;
-    private final IntimacyService intimacyService;
     private final ApplicationEventPublisher eventPublisher;
     private final UserBeaconStatsRepository userBeaconStatsRepository;
+    private final FriendTimelineStore friendTimelineStore;
+    private final FriendGraphCache friendGraphCache;
+    private final UserCellStatsRepository userCellStatsRepository;
+    private final UserCellStatsService userCellStatsService;
+    private final UserCardLoader userCardLoader;
+    private final BeaconPresenceIndex beaconPresenceIndex;
+    private final PostCounterService postCounterService;
+    private final ReactionCountService reactionCountService;
 
     private static final int MAP_MARKER_LIMIT = 20;
+    private static final int AGGREGATED_MARKER_LIMIT = 300;
+    private static final int MAX_COVER_CELLS = 500;
 
     @Value("${feature.use-new-map-marker:true}")
     private boolean useNewMapMarker;
 
+    @Value("${feature.use-friend-timeline:true}")
+    private boolean useFriendTimeline;
+
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -86,6 +98,7 @@ public class PostService {
                 .longitude(request.getLongitude())
                 .locationName(request.getLocationName())
                 .beaconId(beaconId)
+                .beaconCell(geoUtils.beaconCellForWrite(beaconId))
                 .thumbnailUrl(thumbnailUrl)
                 .description(request.getDescription())
                 .build();
@@ -105,14 +118,7 @@ public class PostService {
             collaboratorIds.remove(authorId);
 
             if (!collaboratorIds.isEmpty()) {
-                List<Friendship> relations = friendshipRepository.findAllRelationsBetween(authorId, collaboratorIds.stream().toList());
-
-                Set<Long> validFriendIds = relations.stream()
-                        .filter(f -> f.getStatus() == FriendshipStatus.FRIENDSHIP)
-                        .map(f -> f.getRequester().getId().equals(authorId) ? f.getReceiver().getId() : f.getRequester().getId())
-                        .collect(Collectors.toSet());
-
-                if (!validFriendIds.containsAll(collaboratorIds)) {
+                if (!collaboratorIds.stream().allMatch(id -> socialGraph.isFriend(authorId, id))) {
                     throw new CustomException(ErrorCode.NOT_FRIENDS);
                 }
 
@@ -150,8 +156,7 @@ public class PostService {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
-        List<Long> blockedIds = userBlockService.getBlockedUserIds(myUserId);
-        if (blockedIds.contains(targetUserId)) {
+        if (userBlockService.getBlockSet(myUserId).hasBlocked(targetUserId)) {
             return PostDto.FeedResponse.builder()
                     .posts(List.of())
                     .hasNext(false)
@@ -204,6 +209,8 @@ public class PostService {
 
         userActivityService.decreaseUserStats(userId, activeCount);
         syncUserBeaconStats(userId, beaconId, activeCount);
+
+        friendTimelineStore.removePostAfterCommit(postId, getTimelineReceiverIds(userId));
     }
 
     @Transactional
@@ -221,6 +228,8 @@ public class PostService {
         userActivityService.decreaseUserStats(userId, activeCount);
 
         syncUserBeaconStats(userId, beaconId, activeCount);
+
+        friendTimelineStore.removePostAfterCommit(postId, getTimelineReceiverIds(userId));
     }
 
     @Transactional
@@ -238,6 +247,8 @@ public class PostService {
         userActivityService.restoreUserStats(userId, beaconId);
 
         syncUserBeaconStats(userId, beaconId, activeCount);
+
+        friendTimelineStore.evictAfterCommit(getTimelineReceiverIds(userId).toArray(Long[]::new));
     }
 
     @Transactional
@@ -263,6 +274,7 @@ public class PostService {
                 request.getLongitude(),
                 request.getLocationName(),
                 beaconId,
+                geoUtils.beaconCellForWrite(beaconId),
                 thumbnailUrl
         );
 
@@ -299,11 +311,10 @@ public class PostService {
                     .build();
         }
 
-        List<User> friends = friendshipRepository.findActiveFriendsByUserId(myUserId);
-        List<Long> friendIds = new ArrayList<>(friends.stream().map(User::getId).toList());
+        List<Long> friendIds = friendGraphCache.getFriendIds(myUserId);
 
-        List<Long> blockedIds = userBlockService.getBlockedUserIds(myUserId);
-        friendIds.removeAll(blockedIds);
+        BlockSet blockSet = userBlockService.getBlockSet(myUserId);
+        friendIds.removeIf(blockSet::hasBlocked);
 
         if (friendIds.isEmpty()) {
             friendIds.add(-1L);
@@ -316,28 +327,58 @@ public class PostService {
         return makeFeedResponse(posts, size, myUserId);
     }
 
-    public List<PostDto.MapMarkerResponse> getMapMarkers(Double minLat, Double maxLat, Double minLon, Double maxLon, Long myUserId) {
+    public List<PostDto.MapMarkerResponse> getMapMarkers(Double minLat, Double maxLat, Double minLon, Double maxLon, Integer zoom, Long myUserId) {
         try {
+            int resolution = geoUtils.resolutionForZoom(zoom);
+            if (resolution != GeoUtils.BEACON_RESOLUTION && userCellStatsService.isReady()) {
+                return getAggregatedMapMarkers(minLat, maxLat, minLon, maxLon, resolution, myUserId);
+            }
             return getMapMarkersOptimized(minLat, maxLat, minLon, maxLon, myUserId);
         } catch (Exception e) {
             log.error("[Map Optimization Error] 최적화 로직 실패, 기존 로직으로 Fallback: {}", e.getMessage());
-            List<Object[]> results = postRepository.findMapMarkers(minLat, maxLat, minLon, maxLon, myUserId);
+            GeoUtils.ViewportCover cover = geoUtils.coverViewport(minLat, maxLat, minLon, maxLon, GeoUtils.BEACON_RESOLUTION, MAX_COVER_CELLS);
+            List<Object[]> results = (cover != null && cover.resolution() == GeoUtils.BEACON_RESOLUTION)
+                    ? postRepository.findMapMarkersInBeacons(cover.cellIds(), myUserId)
+                    : postRepository.findMapMarkers(minLat, maxLat, minLon, maxLon, myUserId);
             return mapToMarkerResponse(results);
         }
     }
 
     private List<PostDto.MapMarkerResponse> getMapMarkersOptimized(Double minLat, Double maxLat, Double minLon, Double maxLon, Long myUserId) {
-        List<User> friends = friendshipRepository.findActiveFriendsByUserId(myUserId);
-        List<Long> friendIds = new ArrayList<>(friends.stream().map(User::getId).toList());
+        List<Long> friendIds = friendGraphCache.getFriendIds(myUserId);
 
-        List<Long> blockedIds = userBlockService.getBlockedUserIds(myUserId);
-        friendIds.removeAll(blockedIds);
+        BlockSet blockSet = userBlockService.getBlockSet(myUserId);
+        friendIds.removeIf(blockSet::isBlockedEitherWay);
 
         friendIds.add(myUserId);
 
-        List<Object[]> results = userBeaconStatsRepository.findMarkersByFriendsInArea(
-                friendIds, minLat, maxLat, minLon, maxLon, MAP_MARKER_LIMIT
-        );
+        GeoUtils.ViewportCover cover = geoUtils.coverViewport(minLat, maxLat, minLon, maxLon, GeoUtils.BEACON_RESOLUTION, MAX_COVER_CELLS);
+        boolean parentCellsReady = cover != null
+                && (cover.resolution() == GeoUtils.BEACON_RESOLUTION || userCellStatsService.isReady());
+        if (!parentCellsReady) {
+            return mapToMarkerResponse(userBeaconStatsRepository.findMarkersByFriendsInArea(
+                    friendIds, minLat, maxLat, minLon, maxLon, MAP_MARKER_LIMIT
+            ));
+        }
+
+        return mapToMarkerResponse(userBeaconStatsRepository.findMarkersByFriendsInCells(
+                friendIds, cover.resolution(), cover.cellIds(), MAP_MARKER_LIMIT
+        ));
+    }
+
+    private List<PostDto.MapMarkerResponse> getAggregatedMapMarkers(Double minLat, Double maxLat, Double minLon, Double maxLon, int resolution, Long myUserId) {
+        List<Long> friendIds = friendGraphCache.getFriendIds(myUserId);
+
+        BlockSet blockSet = userBlockService.getBlockSet(myUserId);
+        friendIds.removeIf(blockSet::isBlockedEitherWay);
+
+        friendIds.add(myUserId);
+
+        GeoUtils.ViewportCover cover = geoUtils.coverViewport(minLat, maxLat, minLon, maxLon, resolution, MAX_COVER_CELLS);
+
+        List<Object[]> results = (cover != null && cover.resolution() == resolution)
+                ? userCellStatsRepository.findCellMarkersByFriendsInCells(friendIds, resolution, cover.cellIds(), AGGREGATED_MARKER_LIMIT)
+                : userCellStatsRepository.findCellMarkersByFriendsInArea(friendIds, resolution, minLat, maxLat, minLon, maxLon, AGGREGATED_MARKER_LIMIT);
 
         return mapToMarkerResponse(results);
     }
@@ -369,14 +410,13 @@ public class PostService {
     }
 
     public List<PostDto.FriendMapMarkerResponse> getFriendMapMarkers(Long myUserId) {
-        List<User> friends = friendshipRepository.findActiveFriendsByUserId(myUserId);
-        if (friends.isEmpty()) {
+        List<Long> friendIds = friendGraphCache.getFriendIds(myUserId);
+        if (friendIds.isEmpty()) {
             return List.of();
         }
-        List<Long> friendIds = new ArrayList<>(friends.stream().map(User::getId).toList());
 
-        List<Long> blockedIds = userBlockService.getBlockedUserIds(myUserId);
-        friendIds.removeAll(blockedIds);
+        BlockSet blockSet = userBlockService.getBlockSet(myUserId);
+        friendIds.removeIf(blockSet::isBlockedEitherWay);
 
         if (friendIds.isEmpty()) {
             return List.of();
@@ -407,16 +447,16 @@ public class PostService {
     }
 
     public PostDto.FeedResponse getFriendFeed(Long myUserId, Long cursorId, int size) {
-        List<User> friends = friendshipRepository.findActiveFriendsByUserId(myUserId);
-        List<Long> targetUserIds = new ArrayList<>();
-        targetUserIds.add(myUserId);
+        BlockSet blockSet = userBlockService.getBlockSet(myUserId);
 
-        for (User friend : friends) {
-            targetUserIds.add(friend.getId());
+        if (useFriendTimeline) {
+            List<Post> timelinePosts = readFriendTimeline(myUserId, blockSet, cursorId, size + 1);
+            if (timelinePosts != null) {
+                return makeFeedResponse(timelinePosts, size, myUserId);
+            }
         }
 
-        List<Long> blockedIds = userBlockService.getBlockedUserIds(myUserId);
-        targetUserIds.removeAll(blockedIds);
+        List<Long> targetUserIds = getFeedTargetUserIds(myUserId, blockSet);
 
         Pageable pageable = PageRequest.of(0, size + 1);
         List<Post> posts = postRepository.findByUserIdInWithCursor(targetUserIds, cursorId, pageable);
@@ -424,6 +464,66 @@ public class PostService {
         return makeFeedResponse(posts, size, myUserId);
     }
 
+    private List<Post> readFriendTimeline(Long myUserId, BlockSet blockSet, Long cursorId, int limit) {
+        try {
+            List<Long> postIds;
+            Optional<FriendTimelineStore.TimelinePage> page = friendTimelineStore.read(myUserId, cursorId, limit);
+
+            if (page.isPresent()) {
+                if (!page.get().complete()) return null;
+                postIds = page.get().postIds();
+            } else {
+                String generation = friendTimelineStore.generation(myUserId);
+                List<Long> targetUserIds = getFeedTargetUserIds(myUserId, blockSet);
+                List<Long> recentIds = postRepository.findActivePostIdsByUserIds(
+                        targetUserIds, PageRequest.of(0, FriendTimelineStore.MAX_SIZE));
+                friendTimelineStore.rebuild(myUserId, generation, recentIds);
+
+                postIds = recentIds.stream()
+                        .filter(id -> cursorId == null || id < cursorId)
+                        .limit(limit)
+                        .toList();
+                if (postIds.size() < limit && recentIds.size() >= FriendTimelineStore.MAX_SIZE) return null;
+            }
+
+            if (postIds.isEmpty()) return new ArrayList<>();
+
+            Map<Long, Post> postMap = postRepository.findAllWithUserByIdIn(postIds).stream()
+                    .collect(Collectors.toMap(Post::getId, p -> p));
+
+            List<Long> staleIds = postIds.stream()
+                    .filter(id -> {
+                        Post post = postMap.get(id);
+                        return post == null
+                                || post.getStatus() != PostStatus.ACTIVE
+                                || blockSet.hasBlocked(post.getUser().getId());
+                    })
+                    .toList();
+
+            if (!staleIds.isEmpty()) {
+                friendTimelineStore.removePosts(myUserId, staleIds);
+                return null;
+            }
+
+            return postIds.stream().map(postMap::get).collect(Collectors.toList());
+        } catch (Exception e) {
+            log.warn("[Timeline] 타임라인 조회 실패, DB 조회로 대체: userId={}", myUserId, e);
+            return null;
+        }
+    }
+
+    private List<Long> getFeedTargetUserIds(Long myUserId, BlockSet blockSet) {
+        List<Long> targetUserIds = getTimelineReceiverIds(myUserId);
+        targetUserIds.removeIf(blockSet::hasBlocked);
+        return targetUserIds;
+    }
+
+    private List<Long> getTimelineReceiverIds(Long userId) {
+        List<Long> userIds = friendGraphCache.getFriendIds(userId);
+        userIds.add(userId);
+        return userIds;
+    }
+
     private PostDto.FeedResponse makeFeedResponse(List<Post> posts, int size, Long myUserId) {
         boolean hasNext = false;
         if (posts.size() > size) {
@@ -448,6 +548,8 @@ public class PostService {
     private void enrichPostUserData(List<PostDto.PostDetailResponse> posts, Long myUserId) {
         if (posts.isEmpty()) return;
 
+        postCounterService.applyPendingCounts(posts);
+
         Set<Long> targetUserIdsSet = new HashSet<>();
         List<Long> postIds = new ArrayList<>();
 
@@ -460,36 +562,14 @@ public class PostService {
         }
         List<Long> targetUserIds = new ArrayList<>(targetUserIdsSet);
 
-        Map<Long, Map<ReactionType, Long>> reactionCounts = new HashMap<>();
-        reactionRepository.countReactionsByPostIds(postIds).forEach(row -> {
-            Long pid = (Long) row[0];
-            ReactionType type = (ReactionType) row[1];
-            Long count = (Long) row[2];
-            reactionCounts.computeIfAbsent(pid, k -> new HashMap<>()).put(type, count);
-        });
+        Map<Long, Map<ReactionType, Long>> reactionCounts = reactionCountService.getCounts(postIds);
 
         Map<Long, ReactionType> myReactions = new HashMap<>();
         reactionRepository.findMyReactions(postIds, myUserId).forEach(row -> {
             myReactions.put((Long) row[0], (ReactionType) row[1]);
         });
 
-        Set<Long> otherUserIds = targetUserIds.stream()
-                .filter(id -> !id.equals(myUserId))
-                .collect(Collectors.toSet());
-
-        Map<Long, Friendship> friendshipMap;
-        if (otherUserIds.isEmpty()) {
-            friendshipMap = Map.of();
-        } else {
-            friendshipMap = friendshipRepository.findAllRelationsBetween(myUserId, otherUserIds.stream().toList()).stream()
-                    .collect(Collectors.toMap(
-                            f -> f.getRequester().getId().equals(myUserId) ? f.getReceiver().getId() : f.getRequester().getId(),
-                            f -> f
-                    ));
-        }
-
-        Map<Long, UserActivityService.UserStats> statsMap = userActivityService.getUserStatsMap(new ArrayList<>(targetUserIds));
-        Map<Long, FriendshipIntimacy> myIntimacyMap = intimacyService.getIntimacyMap(myUserId, targetUserIds);
+        userCardLoader.load(myUserId, targetUserIds);
 
         for (PostDto.PostDetailResponse p : posts) {
             Map<ReactionType, Long> postReactions = reactionCounts.getOrDefault(p.getId(), Collections.emptyMap());
@@ -499,40 +579,14 @@ public class PostService {
                     postReactions
             ));
 
-            fillUserInfo(p.getUser(), myUserId, friendshipMap, statsMap, myIntimacyMap);
+            userCardLoader.fill(myUserId, p.getUser());
 
             if (p.getCollaborators() != null) {
-                p.getCollaborators().forEach(c ->
-                        fillUserInfo(c, myUserId, friendshipMap, statsMap, myIntimacyMap)
-                );
+                p.getCollaborators().forEach(c -> userCardLoader.fill(myUserId, c));
             }
         }
     }
 
-    private void fillUserInfo(UserDto.UserResponse userRes, Long myUserId,
-                              Map<Long, Friendship> friendshipMap,
-                              Map<Long, UserActivityService.UserStats> statsMap,
-                              Map<Long, FriendshipIntimacy> intimacyMap) {
-
-        String relationStatus = "NONE";
-        if (userRes.getId().equals(myUserId)) {
-            relationStatus = "SELF";
-        } else {
-            Friendship f = friendshipMap.get(userRes.getId());
-            relationStatus = RelationUtil.resolveStatus(f, myUserId);
-        }
-        userRes.setRelationStatus(relationStatus);
-
-        UserActivityService.UserStats stats = statsMap.getOrDefault(userRes.getId(), new UserActivityService.UserStats(0,0,0,0,0));
-
-        userRes.setFriendCount(stats.friendCount());
-        userRes.setPostCount(stats.postCount());
-        userRes.setStreakCount(stats.streakCount());
-        userRes.setVisitedPlaceCount(stats.visitedPlaceCount());
-
-        userRes.applyIntimacyInfo(intimacyMap.get(userRes.getId()), stats.totalIntimacyLevel());
-    }
-
     public List<PostDto.VisitedPlaceResponse> getVisitedPlaces(Long userId) {
         List<Object[]> results = postRepository.findVisitedPlacesByUserId(userId);
 
@@ -564,11 +618,11 @@ public class PostService {
         String centerBeaconId = geoUtils.latLngToBeaconId(latitude, longitude);
         List<String> targetBeaconIds = geoUtils.getHexagonNeighbors(centerBeaconId);
 
-        boolean isVisitedByMe = postRepository.existsByBeaconIdInAndUserId(targetBeaconIds, myUserId);
+        Map<Long, Long> visitorLatest = beaconPresenceIndex.findVisitors(targetBeaconIds);
+        boolean isVisitedByMe = visitorLatest.containsKey(myUserId);
 
-        List<User> friends = friendshipRepository.findActiveFriendsByUserId(myUserId);
-
-        if (friends.isEmpty()) {
+        long[] friendIds = friendGraphCache.getFriendIdArray(myUserId);
+        if (friendIds.length == 0 || visitorLatest.isEmpty()) {
             return PostDto.FriendVisitResponse.builder()
                     .isVisitedByMe(isVisitedByMe)
                     .visitors(List.of())
@@ -576,12 +630,14 @@ public class PostService {
                     .build();
         }
 
-        List<Long> friendIds = new ArrayList<>(friends.stream().map(User::getId).toList());
-
-        List<Long> blockedIds = userBlockService.getBlockedUserIds(myUserId);
-        friendIds.removeAll(blockedIds);
+        BlockSet blockSet = userBlockService.getBlockSet(myUserId);
+        List<Long> visitorIds = visitorLatest.keySet().stream()
+                .filter(id -> Arrays.binarySearch(friendIds, id) >= 0)
+                .filter(id -> !blockSet.isBlockedEitherWay(id))
+                .sorted(Comparator.comparing((Long id) -> visitorLatest.get(id)).reversed())
+                .toList();
 
-        if (friendIds.isEmpty()) {
+        if (visitorIds.isEmpty()) {
             return PostDto.FriendVisitResponse.builder()
                     .isVisitedByMe(isVisitedByMe)
                     .visitors(List.of())
@@ -589,38 +645,44 @@ public class PostService {
                     .build();
         }
 
-        PageRequest pageRequest = PageRequest.of(0, size);
-        List<User> visitors = postRepository.findFriendsInBeacons(targetBeaconIds, friendIds, pageRequest);
+        List<Long> pageIds = visitorIds.subList(0, Math.min(size, visitorIds.size()));
+        Map<Long, User> userMap = userRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(User::getId, u -> u));
 
-        if (visitors.isEmpty()) {
-            return PostDto.FriendVisitResponse.builder()
-                    .isVisitedByMe(isVisitedByMe)
-                    .visitors(List.of())
-                    .totalCount(0L)
-                    .build();
-        }
-
-        Long totalCount = postRepository.countFriendsInBeacons(targetBeaconIds, friendIds);
+        List<UserDto.UserResponse> visitors = pageIds.stream()
+                .map(userMap::get)
+                .filter(Objects::nonNull)
+                .map(UserDto.UserResponse::from)
+                .toList();
 
         return PostDto.FriendVisitResponse.builder()
                 .isVisitedByMe(isVisitedByMe)
-                .visitors(visitors.stream().map(UserDto.UserResponse::from).toList())
-                .totalCount(totalCount)
+                .visitors(visitors)
+                .totalCount((long) visitorIds.size())
                 .build();
     }
 
     private void syncUserBeaconStats(Long userId, String beaconId, long activeCount) {
-        userBeaconStatsRepository.findByUserIdAndBeaconId(userId, beaconId)
-                .ifPresent(stats -> {
-                    if (activeCount <= 0) {
-                        userBeaconStatsRepository.delete(stats);
-                    } else {
-                        postRepository.findTopByUserIdAndBeaconIdAndStatusOrderByIdDesc(userId, beaconId, PostStatus.ACTIVE)
-                                .ifPresent(latestPost -> {
-                                    stats.sync(activeCount, latestPost.getThumbnailUrl(), latestPost.getCreatedAt());
-                                });
-                    }
-                });
+        if (activeCount <= 0) {
+            userBeaconStatsRepository.deleteIfNoActivePosts(userId, beaconId);
+        } else {
+            upsertBeaconStatsFromPosts(userId, beaconId);
+        }
+
+        userCellStatsService.refresh(userId, beaconId);
+        beaconPresenceIndex.evictAfterCommit(beaconId);
+    }
+
+    private void upsertBeaconStatsFromPosts(Long userId, String beaconId) {
+        GeoUtils.Pair<Double, Double> latLng = geoUtils.beaconIdToLatLng(beaconId);
+        if (latLng == null) return;
+
+        userBeaconStatsRepository.upsertFromActivePosts(
+                userId, beaconId, geoUtils.beaconCellForWrite(beaconId),
+                latLng.lat, latLng.lng,
+                geoUtils.toParentCell(beaconId, GeoUtils.REGION_RESOLUTION),
+                geoUtils.toParentCell(beaconId, GeoUtils.CITY_RESOLUTION)
+        );
     }
 
     @Transactional
@@ -643,37 +705,6 @@ public class PostService {
     public void recalculateBeaconStats(Long userId, String beaconId) {
         long activeCount = postRepository.countByUserIdAndBeaconIdAndStatus(userId, beaconId, PostStatus.ACTIVE);
 
-        userBeaconStatsRepository.findByUserIdAndBeaconId(userId, beaconId)
-                .ifPresentOrElse(stats -> {
-                    if (activeCount <= 0) {
-                        userBeaconStatsRepository.delete(stats);
-                    } else {
-                        postRepository.findTopByUserIdAndBeaconIdAndStatusOrderByIdDesc(userId, beaconId, PostStatus.ACTIVE)
-                                .ifPresent(latestPost -> {
-                                    stats.sync(activeCount, latestPost.getThumbnailUrl(), latestPost.getCreatedAt());
-                                });
-                    }
-                }, () -> {
-                    if (activeCount > 0) {
-                        postRepository.findTopByUserIdAndBeaconIdAndStatusOrderByIdDesc(userId, beaconId, PostStatus.ACTIVE)
-                                .ifPresent(latestPost -> {
-                                    GeoUtils.Pair<Double, Double> latLng = geoUtils.beaconIdToLatLng(beaconId);
-
-                                    if (latLng != null) {
-                                        UserBeaconStats newStats = UserBeaconStats.builder()
-                                                .userId(userId)
-                                                .beaconId(beaconId)
-                                                .latitude(latLng.lat)
-                                                .longitude(latLng.lng)
-                                                .postCount(activeCount)
-                                                .latestThumbnailUrl(latestPost.getThumbnailUrl())
-                                                .latestPostedAt(latestPost.getCreatedAt())
-                                                .build();
-
-                                        userBeaconStatsRepository.save(newStats);
-                                    }
-                                });
-                    }
-                });
+        syncUserBeaconStats(userId, beaconId, activeCount);
     }
 }
\ No newline at end of file
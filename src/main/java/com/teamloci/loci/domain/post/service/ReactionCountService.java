@@ -0,0 +1,231 @@
+package com.teamloci.loci.domain.post.service;
+
+import com.teamloci.loci.domain.post.entity.ReactionType;
+import com.teamloci.loci.domain.post.repository.PostReactionCountRepository;
+import com.teamloci.loci.domain.post.repository.PostReactionRepository;
+import com.teamloci.loci.global.counter.DeltaBufferFlusher;
+import com.teamloci.loci.global.counter.RedisDeltaBuffer;
+import com.teamloci.loci.global.util.AfterCommit;
+import com.teamloci.loci.global.util.BackfillCoordinator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+@Slf4j
+@Service
+public class ReactionCountService {
+
+    public static final String BACKFILL_NAME = "reaction-counts";
+
+    private static final long RECONCILE_CHUNK_SIZE = 1000;
+
+    private final PostReactionCountRepository postReactionCountRepository;
+    private final PostReactionRepository postReactionRepository;
+    private final DeltaBufferFlusher deltaBufferFlusher;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final BackfillCoordinator backfillCoordinator;
+    private final Map<ReactionType, RedisDeltaBuffer> buffers = new EnumMap<>(ReactionType.class);
+    private final TransactionTemplate fallbackTemplate;
+
+    @Value("${feature.write-behind-post-counters:true}")
+    private boolean writeBehind;
+
+    @Value("${feature.backfill-reaction-counts:true}")
+    private boolean backfillOnStartup;
+
+    public ReactionCountService(PostReactionCountRepository postReactionCountRepository,
+                                PostReactionRepository postReactionRepository,
+                                DeltaBufferFlusher deltaBufferFlusher,
+                                JdbcTemplate jdbcTemplate,
+                                StringRedisTemplate redisTemplate,
+                                PlatformTransactionManager transactionManager,
+                                BackfillCoordinator backfillCoordinator) {
+        this.postReactionCountRepository = postReactionCountRepository;
+        this.postReactionRepository = postReactionRepository;
+        this.deltaBufferFlusher = deltaBufferFlusher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.backfillCoordinator = backfillCoordinator;
+        for (ReactionType type : ReactionType.values()) {
+            buffers.put(type, new RedisDeltaBuffer("post:reaction:" + type.name(), redisTemplate));
+        }
+        this.fallbackTemplate = new TransactionTemplate(transactionManager);
+        this.fallbackTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void increase(Long postId, ReactionType type) {
+        add(postId, type, 1);
+    }
+
+    public void decrease(Long postId, ReactionType type) {
+        add(postId, type, -1);
+    }
+
+    public void change(Long postId, ReactionType from, ReactionType to) {
+        if (from == to) return;
+
+        add(postId, from, -1);
+        add(postId, to, 1);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Map<ReactionType, Long>> getCounts(List<Long> postIds) {
+        Map<Long, Map<ReactionType, Long>> result = new HashMap<>();
+        if (postIds.isEmpty()) return result;
+
+        if (!backfillCoordinator.isComplete(BACKFILL_NAME)) {
+            postReactionRepository.countReactionsByPostIds(postIds).forEach(row ->
+                    result.computeIfAbsent((Long) row[0], k -> new EnumMap<>(ReactionType.class))
+                            .put((ReactionType) row[1], (Long) row[2]));
+            return result;
+        }
+
+        postReactionCountRepository.findAllByPostIdIn(postIds).forEach(c ->
+                result.computeIfAbsent(c.getPostId(), k -> new EnumMap<>(ReactionType.class))
+                        .put(c.getReactionType(), c.getCount()));
+        applyPendingCounts(postIds, result);
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${counter.post.flush-interval-ms:5000}")
+    public void flush() {
+        buffers.forEach((type, buffer) -> {
+            try {
+                deltaBufferFlusher.flush(buffer, deltas -> applyDeltas(type, deltas));
+            } catch (Exception e) {
+                log.error("[ReactionCount] 반응 집계 반영 실패: type={}", type, e);
+            }
+        });
+    }
+
+    @Scheduled(cron = "0 0 5 * * *")
+    public void reconcile() {
+        rebuild();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) return;
+
+        backfillCoordinator.runOnce(BACKFILL_NAME, () -> {
+            int failedChunks = rebuild();
+            if (failedChunks > 0) {
+                throw new IllegalStateException("반응 집계 백필 중 " + failedChunks + "개 구간이 실패했습니다.");
+            }
+        });
+    }
+
+    private void add(Long postId, ReactionType type, long delta) {
+        if (!writeBehind) {
+            postReactionCountRepository.applyDelta(postId, type.name(), delta);
+            return;
+        }
+
+        RedisDeltaBuffer buffer = buffers.get(type);
+        AfterCommit.run(() -> {
+            try {
+                buffer.add(postId, delta);
+            } catch (Exception e) {
+                log.error("[ReactionCount] 반응 집계 버퍼 기록 실패, DB에 직접 반영합니다: type={}, postId={}", type, postId, e);
+                try {
+                    fallbackTemplate.executeWithoutResult(status -> applyDeltas(type, Map.of(postId, delta)));
+                } catch (Exception fallbackError) {
+                    log.error("[ReactionCount] 반응 집계 직접 반영 실패, 야간 보정에서 복구됩니다: type={}, postId={}", type, postId, fallbackError);
+                }
+            }
+        });
+    }
+
+    private void applyPendingCounts(List<Long> postIds, Map<Long, Map<ReactionType, Long>> counts) {
+        if (!writeBehind) return;
+
+        try {
+            buffers.forEach((type, buffer) ->
+                    deltaBufferFlusher.pendingDeltas(buffer, postIds).forEach((postId, delta) -> {
+                        Map<ReactionType, Long> postCounts = counts.computeIfAbsent(postId, k -> new EnumMap<>(ReactionType.class));
+                        long count = Math.max(0L, postCounts.getOrDefault(type, 0L) + delta);
+                        if (count > 0) {
+                            postCounts.put(type, count);
+                        } else {
+                            postCounts.remove(type);
+                        }
+                    }));
+        } catch (Exception e) {
+            log.warn("[ReactionCount] 미반영 반응 집계 조회 실패: {}", e.getMessage());
+        }
+        counts.values().removeIf(Map::isEmpty);
+    }
+
+    private void applyDeltas(ReactionType type, Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[]{postId, type.name(), delta, delta}));
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO post_reaction_counts (post_id, reaction_type, count)
+                VALUES (?, ?, GREATEST(?, 0))
+                ON DUPLICATE KEY UPDATE count = GREATEST(count + ?, 0)""", args);
+    }
+
+    /**
+     * post_reactions 기준으로 집계를 다시 만든다. 실패한 구간 수를 돌려준다.
+     * 구간마다 반영 중인 배치를 먼저 마무리하고, 그 구간의 미반영 델타를 꺼낸 뒤 재집계한다.
+     * 꺼낸 델타는 재집계에 이미 포함되어 있으므로 버리고, 재집계가 실패하면 버퍼에 되돌린다.
+     */
+    private int rebuild() {
+        Long maxPostId = postReactionCountRepository.findMaxReactedPostId();
+        if (maxPostId == null) return 0;
+
+        log.info("[ReactionCount] 반응 집계 보정 시작 (maxPostId={})", maxPostId);
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        long rebuilt = 0L;
+        int failedChunks = 0;
+        for (long fromId = 0L; fromId <= maxPostId; fromId += RECONCILE_CHUNK_SIZE) {
+            final long chunkFrom = fromId;
+            final long chunkTo = fromId + RECONCILE_CHUNK_SIZE;
+            Map<ReactionType, Map<Long, Long>> drained = new EnumMap<>(ReactionType.class);
+            try {
+                if (writeBehind) {
+                    flush();
+                    buffers.forEach((type, buffer) -> drained.put(type, buffer.drainRange(chunkFrom, chunkTo)));
+                }
+                Integer rows = template.execute(status -> {
+                    postReactionCountRepository.deleteInRange(chunkFrom, chunkTo);
+                    return postReactionCountRepository.rebuildInRange(chunkFrom, chunkTo);
+                });
+                rebuilt += rows == null ? 0 : rows;
+            } catch (Exception e) {
+                restoreDrained(drained);
+                failedChunks++;
+                log.error("[ReactionCount] 반응 집계 보정 실패: postId {} ~ {}", chunkFrom, chunkTo, e);
+            }
+        }
+
+        log.info("[ReactionCount] 반응 집계 보정 완료: {}건 (실패 구간 {}개)", rebuilt, failedChunks);
+        return failedChunks;
+    }
+
+    private void restoreDrained(Map<ReactionType, Map<Long, Long>> drained) {
+        drained.forEach((type, deltas) -> {
+            try {
+                buffers.get(type).restore(deltas);
+            } catch (Exception e) {
+                log.error("[ReactionCount] 꺼낸 반응 집계 델타 복원 실패, 야간 보정에서 복구됩니다: type={}, {}건", type, deltas.size(), e);
+            }
+        });
+    }
+}
@@ -1,8 +1,5 @@
 package com.teamloci.loci.domain.post.service;
 
-import com.teamloci.loci.domain.friend.Friendship;
-import com.teamloci.loci.domain.friend.FriendshipRepository;
-import com.teamloci.loci.domain.intimacy.entity.FriendshipIntimacy;
 import com.teamloci.loci.domain.intimacy.entity.IntimacyType;
 import com.teamloci.loci.domain.intimacy.service.IntimacyService;
 import com.teamloci.loci.domain.notification.NotificationService;
@@ -15,7 +12,6 @@ import com.teamloci.loci.domain.post.repository.PostRepository;
 import com.teamloci.loci.domain.user.*;
 import com.teamloci.loci.global.error.CustomException;
 import com.teamloci.loci.global.error.ErrorCode;
-import com.teamloci.loci.global.util.RelationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -37,11 +33,12 @@ public class ReactionService {
     private final PostReactionRepository postReactionRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final FriendshipRepository friendshipRepository;
     private final NotificationService notificationService;
-    private final UserActivityService userActivityService;
     private final IntimacyService intimacyService;
     private final StringRedisTemplate redisTemplate;
+    private final UserCardLoader userCardLoader;
+    private final PostCounterService postCounterService;
+    private final ReactionCountService reactionCountService;
 
     private static final String REACTION_NOTI_COOLTIME_PREFIX = "noti:cooltime:reaction:";
     private static final long NOTI_COOLTIME_SECONDS = 30;
@@ -64,8 +61,10 @@ public class ReactionService {
             PostReaction reaction = existing.get();
             if (reaction.getType() == type) {
                 postReactionRepository.delete(reaction);
-                postRepository.decreaseReactionCount(postId);
+                postCounterService.decreaseReactionCount(postId);
+                reactionCountService.decrease(postId, type);
             } else {
+                reactionCountService.change(postId, reaction.getType(), type);
                 reaction.changeType(type);
             }
         } else {
@@ -76,7 +75,8 @@ public class ReactionService {
                         .type(type)
                         .build());
 
-                postRepository.increaseReactionCount(postId);
+                postCounterService.increaseReactionCount(postId);
+                reactionCountService.increase(postId, type);
 
                 if (!post.getUser().getId().equals(userId)) {
                     intimacyService.accumulatePoint(userId, post.getUser().getId(), IntimacyType.REACTION, null);
@@ -153,47 +153,12 @@ public class ReactionService {
 
         Long nextCursor = others.isEmpty() ? null : others.get(others.size() - 1).getId();
 
-        Set<Long> userIds = resultList.stream()
+        userCardLoader.load(myUserId, resultList.stream()
                 .map(r -> r.getUser().getId())
-                .collect(Collectors.toSet());
-
-        Set<Long> otherIds = userIds.stream().filter(id -> !id.equals(myUserId)).collect(Collectors.toSet());
-        Map<Long, Friendship> friendshipMap;
-
-        if (otherIds.isEmpty()) {
-            friendshipMap = Map.of();
-        } else {
-            friendshipMap = friendshipRepository.findAllRelationsBetween(myUserId, new ArrayList<>(otherIds)).stream()
-                    .collect(Collectors.toMap(
-                            f -> f.getRequester().getId().equals(myUserId) ? f.getReceiver().getId() : f.getRequester().getId(),
-                            f -> f
-                    ));
-        }
-
-        Map<Long, UserActivityService.UserStats> statsMap = userActivityService.getUserStatsMap(new ArrayList<>(userIds));
-        Map<Long, FriendshipIntimacy> intimacyMap = intimacyService.getIntimacyMap(myUserId);
+                .collect(Collectors.toSet()));
 
         List<ReactionDto.Response> dtos = resultList.stream()
-                .map(r -> {
-                    User u = r.getUser();
-                    String status;
-
-                    if (u.getId().equals(myUserId)) {
-                        status = "SELF";
-                    } else {
-                        status = RelationUtil.resolveStatus(friendshipMap.get(u.getId()), myUserId);
-                    }
-
-                    var stats = statsMap.getOrDefault(u.getId(), new UserActivityService.UserStats(0,0,0,0,0));
-
-                    UserDto.UserResponse userResponse = UserDto.UserResponse.of(
-                            u, status, stats.friendCount(), stats.postCount(), stats.streakCount(), stats.visitedPlaceCount()
-                    );
-
-                    userResponse.applyIntimacyInfo(intimacyMap.get(u.getId()), stats.totalIntimacyLevel());
-
-                    return ReactionDto.Response.of(r, userResponse);
-                })
+                .map(r -> ReactionDto.Response.of(r, userCardLoader.toResponse(myUserId, r.getUser())))
                 .collect(Collectors.toList());
 
         return ReactionDto.ListResponse.builder()
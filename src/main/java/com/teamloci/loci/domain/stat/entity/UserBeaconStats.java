@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 @Table(name = "user_beacon_stats", indexes = {
         @Index(name = "idx_user_beacon", columnList = "user_id, beacon_id"),
         @Index(name = "idx_location", columnList = "latitude, longitude"),
-        @Index(name = "idx_beacon_user_posted_at", columnList = "beacon_id, user_id, latest_posted_at")
+        @Index(name = "idx_beacon_user_posted_at", columnList = "beacon_id, user_id, latest_posted_at"),
+        @Index(name = "idx_user_beacon_cell", columnList = "user_id, beacon_cell"),
+        @Index(name = "idx_user_cell_r5", columnList = "user_id, cell_r5"),
+        @Index(name = "idx_user_cell_r7", columnList = "user_id, cell_r7")
 }, uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "beacon_id"})
 })
@@ -27,9 +30,18 @@ public class UserBeaconStats {
     @Column(name = "beacon_id", nullable = false)
     private String beaconId;
 
+    @Column(name = "beacon_cell")
+    private Long beaconCell;
+
     private Double latitude;
     private Double longitude;
 
+    @Column(name = "cell_r5", length = 64)
+    private String cellR5;
+
+    @Column(name = "cell_r7", length = 64)
+    private String cellR7;
+
     @Column(nullable = false)
     private Long postCount;
 
@@ -39,30 +51,21 @@ public class UserBeaconStats {
     private LocalDateTime latestPostedAt;
 
     @Builder
-    public UserBeaconStats(Long userId, String beaconId, Double latitude, Double longitude, Long postCount, String latestThumbnailUrl, LocalDateTime latestPostedAt) {
+    public UserBeaconStats(Long userId, String beaconId, Long beaconCell, Double latitude, Double longitude, String cellR5, String cellR7, Long postCount, String latestThumbnailUrl, LocalDateTime latestPostedAt) {
         this.userId = userId;
         this.beaconId = beaconId;
+        this.beaconCell = beaconCell;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.cellR5 = cellR5;
+        this.cellR7 = cellR7;
         this.postCount = postCount;
         this.latestThumbnailUrl = latestThumbnailUrl;
         this.latestPostedAt = latestPostedAt;
     }
 
-    public void updateStats(String newThumbnailUrl, LocalDateTime postedAt) {
-        this.postCount++;
-
-        if (this.latestPostedAt == null || (postedAt != null && postedAt.isAfter(this.latestPostedAt))) {
-            this.latestPostedAt = postedAt;
-            if (newThumbnailUrl != null) {
-                this.latestThumbnailUrl = newThumbnailUrl;
-            }
-        }
-    }
-
-    public void sync(long postCount, String latestThumbnailUrl, LocalDateTime latestPostedAt) {
-        this.postCount = postCount;
-        this.latestThumbnailUrl = latestThumbnailUrl;
-        this.latestPostedAt = latestPostedAt;
+    public void assignParentCells(String cellR5, String cellR7) {
+        this.cellR5 = cellR5;
+        this.cellR7 = cellR7;
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.teamloci.loci.domain.stat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_cell_stats", indexes = {
+        @Index(name = "idx_cell_stats_location", columnList = "resolution, latitude, longitude")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_cell_stats", columnNames = {"user_id", "resolution", "cell_id"})
+})
+public class UserCellStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer resolution;
+
+    @Column(name = "cell_id", nullable = false, length = 64)
+    private String cellId;
+
+    private Double latitude;
+    private Double longitude;
+
+    @Column(nullable = false)
+    private Long postCount;
+
+    @Column(columnDefinition = "TEXT")
+    private String latestThumbnailUrl;
+
+    private LocalDateTime latestPostedAt;
+}
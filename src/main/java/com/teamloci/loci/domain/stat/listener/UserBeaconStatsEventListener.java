@@ -2,12 +2,12 @@ package com.teamloci.loci.domain.stat.listener;
 
 import com.teamloci.loci.domain.post.entity.Post;
 import com.teamloci.loci.domain.post.event.PostCreatedEvent;
-import com.teamloci.loci.domain.stat.entity.UserBeaconStats;
 import com.teamloci.loci.domain.stat.repository.UserBeaconStatsRepository;
+import com.teamloci.loci.domain.stat.service.BeaconPresenceIndex;
+import com.teamloci.loci.domain.stat.service.UserCellStatsService;
+import com.teamloci.loci.global.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -23,6 +23,9 @@ public class UserBeaconStatsEventListener {
 
     private final UserBeaconStatsRepository statsRepository;
     private final PlatformTransactionManager transactionManager;
+    private final UserCellStatsService userCellStatsService;
+    private final BeaconPresenceIndex beaconPresenceIndex;
+    private final GeoUtils geoUtils;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -32,42 +35,29 @@ public class UserBeaconStatsEventListener {
         TransactionTemplate template = new TransactionTemplate(transactionManager);
         template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
 
-        int maxRetries = 3;
-        for (int i = 0; i < maxRetries; i++) {
-            try {
-                template.execute(status -> {
-                    updateStats(post);
-                    return null;
-                });
-                return;
-            } catch (DataIntegrityViolationException e) {
-                log.warn("[Stats Retry] 동시성 충돌 발생, 재시도합니다 ({}회). userId={}, beaconId={}",
-                        i + 1, post.getUser().getId(), post.getBeaconId());
-                try {
-                    Thread.sleep(50);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                }
-            } catch (Exception e) {
-                log.error("[Stats Error] 통계 갱신 실패", e);
-                return;
-            }
+        try {
+            template.executeWithoutResult(status -> updateStats(post));
+        } catch (Exception e) {
+            log.error("[Stats Error] 통계 갱신 실패: userId={}, beaconId={}", post.getUser().getId(), post.getBeaconId(), e);
         }
     }
 
     private void updateStats(Post post) {
-        UserBeaconStats stats = statsRepository.findByUserIdAndBeaconId(post.getUser().getId(), post.getBeaconId())
-                .orElseGet(() -> UserBeaconStats.builder()
-                        .userId(post.getUser().getId())
-                        .beaconId(post.getBeaconId())
-                        .latitude(post.getLatitude())
-                        .longitude(post.getLongitude())
-                        .postCount(0L)
-                        .latestThumbnailUrl(null)
-                        .latestPostedAt(null)
-                        .build());
-
-        stats.updateStats(post.getThumbnailUrl(), post.getCreatedAt());
-        statsRepository.save(stats);
+        String beaconId = post.getBeaconId();
+
+        statsRepository.upsertForNewPost(
+                post.getUser().getId(),
+                beaconId,
+                geoUtils.beaconCellForWrite(beaconId),
+                post.getLatitude(),
+                post.getLongitude(),
+                geoUtils.toParentCell(beaconId, GeoUtils.REGION_RESOLUTION),
+                geoUtils.toParentCell(beaconId, GeoUtils.CITY_RESOLUTION),
+                post.getThumbnailUrl(),
+                post.getCreatedAt()
+        );
+
+        userCellStatsService.refresh(post.getUser().getId(), beaconId);
+        beaconPresenceIndex.evictAfterCommit(beaconId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.teamloci.loci.domain.stat.repository;
+
+import com.teamloci.loci.global.util.GeoUtils;
+
+/**
+ * 해상도별로 user_beacon_stats 의 어느 컬럼을 조회할지 정한다.
+ * 컬럼을 바인드 파라미터로 고르면 MySQL 이 컬럼별 인덱스를 쓰지 못하므로 SQL 을 만들 때 정한다.
+ */
+final class CellColumns {
+
+    private CellColumns() {}
+
+    static String of(int resolution) {
+        return switch (resolution) {
+            case GeoUtils.BEACON_RESOLUTION -> "beacon_id";
+            case GeoUtils.CITY_RESOLUTION -> "cell_r7";
+            case GeoUtils.REGION_RESOLUTION -> "cell_r5";
+            default -> throw new IllegalArgumentException("지원하지 않는 해상도입니다: " + resolution);
+        };
+    }
+
+    static String ofParentCell(int resolution) {
+        if (resolution == GeoUtils.BEACON_RESOLUTION) {
+            throw new IllegalArgumentException("상위 셀 해상도가 아닙니다: " + resolution);
+        }
+        return of(resolution);
+    }
+}
@@ -1,20 +1,109 @@
 package com.teamloci.loci.domain.stat.repository;
 
 import com.teamloci.loci.domain.stat.entity.UserBeaconStats;
-import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserBeaconStatsRepository extends JpaRepository<UserBeaconStats, Long> {
+public interface UserBeaconStatsRepository extends JpaRepository<UserBeaconStats, Long>, UserBeaconStatsRepositoryCustom {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<UserBeaconStats> findByUserIdAndBeaconId(Long userId, String beaconId);
 
+    List<UserBeaconStats> findByIdGreaterThanAndCellR5IsNullOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT s.beaconId, s.userId, s.latestPostedAt FROM UserBeaconStats s WHERE s.beaconId IN :beaconIds")
+    List<Object[]> findPresenceByBeaconIds(@Param("beaconIds") List<String> beaconIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO user_beacon_stats
+            (user_id, beacon_id, beacon_cell, latitude, longitude, cell_r5, cell_r7, post_count, latest_thumbnail_url, latest_posted_at)
+        VALUES
+            (:userId, :beaconId, :beaconCell, :lat, :lon, :cellR5, :cellR7, 1, :thumbnailUrl, :postedAt)
+        ON DUPLICATE KEY UPDATE
+            latest_thumbnail_url = IF(latest_posted_at IS NULL OR VALUES(latest_posted_at) > latest_posted_at,
+                                      COALESCE(VALUES(latest_thumbnail_url), latest_thumbnail_url),
+                                      latest_thumbnail_url),
+            latest_posted_at = IF(latest_posted_at IS NULL OR VALUES(latest_posted_at) > latest_posted_at,
+                                  VALUES(latest_posted_at),
+                                  latest_posted_at),
+            beacon_cell = COALESCE(beacon_cell, VALUES(beacon_cell)),
+            post_count = post_count + 1
+    """, nativeQuery = true)
+    void upsertForNewPost(@Param("userId") Long userId, @Param("beaconId") String beaconId,
+                          @Param("beaconCell") Long beaconCell,
+                          @Param("lat") Double lat, @Param("lon") Double lon,
+                          @Param("cellR5") String cellR5, @Param("cellR7") String cellR7,
+                          @Param("thumbnailUrl") String thumbnailUrl, @Param("postedAt") LocalDateTime postedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO user_beacon_stats
+            (user_id, beacon_id, beacon_cell, latitude, longitude, cell_r5, cell_r7, post_count, latest_thumbnail_url, latest_posted_at)
+        SELECT :userId, :beaconId, :beaconCell, :lat, :lon, :cellR5, :cellR7, a.cnt, lp.thumbnail_url, lp.created_at
+        FROM (
+            SELECT COUNT(*) AS cnt, MAX(p.id) AS latest_id
+            FROM posts p
+            WHERE p.user_id = :userId AND p.beacon_id = :beaconId AND p.status = 'ACTIVE'
+        ) a
+        JOIN posts lp ON lp.id = a.latest_id
+        ON DUPLICATE KEY UPDATE
+            post_count = VALUES(post_count),
+            latest_thumbnail_url = VALUES(latest_thumbnail_url),
+            latest_posted_at = VALUES(latest_posted_at)
+    """, nativeQuery = true)
+    void upsertFromActivePosts(@Param("userId") Long userId, @Param("beaconId") String beaconId,
+                               @Param("beaconCell") Long beaconCell,
+                               @Param("lat") Double lat, @Param("lon") Double lon,
+                               @Param("cellR5") String cellR5, @Param("cellR7") String cellR7);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        DELETE FROM user_beacon_stats
+        WHERE user_id = :userId AND beacon_id = :beaconId
+        AND NOT EXISTS (
+            SELECT 1 FROM posts p
+            WHERE p.user_id = :userId AND p.beacon_id = :beaconId AND p.status = 'ACTIVE'
+        )
+    """, nativeQuery = true)
+    void deleteIfNoActivePosts(@Param("userId") Long userId, @Param("beaconId") String beaconId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        UPDATE user_beacon_stats s
+        JOIN (
+            SELECT p.user_id, p.beacon_id, COUNT(*) AS cnt, MAX(p.id) AS latest_id
+            FROM posts p
+            JOIN (SELECT DISTINCT user_id, beacon_id FROM posts WHERE id IN :postIds) t
+                ON p.user_id = t.user_id AND p.beacon_id = t.beacon_id
+            WHERE p.status = 'ACTIVE'
+            GROUP BY p.user_id, p.beacon_id
+        ) a ON s.user_id = a.user_id AND s.beacon_id = a.beacon_id
+        JOIN posts lp ON lp.id = a.latest_id
+        SET s.post_count = a.cnt,
+            s.latest_thumbnail_url = lp.thumbnail_url,
+            s.latest_posted_at = lp.created_at
+    """, nativeQuery = true)
+    int syncStatsForPosts(@Param("postIds") List<Long> postIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        DELETE s FROM user_beacon_stats s
+        JOIN (SELECT DISTINCT user_id, beacon_id FROM posts WHERE id IN :postIds) t
+            ON s.user_id = t.user_id AND s.beacon_id = t.beacon_id
+        WHERE NOT EXISTS (
+            SELECT 1 FROM posts p
+            WHERE p.user_id = s.user_id AND p.beacon_id = s.beacon_id AND p.status = 'ACTIVE'
+        )
+    """, nativeQuery = true)
+    int deleteEmptyStatsForPosts(@Param("postIds") List<Long> postIds);
+
     @Query(value = """
         SELECT 
             s.beacon_id, 
@@ -0,0 +1,8 @@
+package com.teamloci.loci.domain.stat.repository;
+
+import java.util.List;
+
+public interface UserBeaconStatsRepositoryCustom {
+
+    List<Object[]> findMarkersByFriendsInCells(List<Long> friendIds, int resolution, List<String> cellIds, int limit);
+}
@@ -0,0 +1,47 @@
+package com.teamloci.loci.domain.stat.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+public class UserBeaconStatsRepositoryCustomImpl implements UserBeaconStatsRepositoryCustom {
+
+    private static final String MARKERS_IN_CELLS = """
+        SELECT
+            s.beacon_id,
+            SUM(s.post_count),
+            (
+                SELECT inner_s.latest_thumbnail_url
+                FROM user_beacon_stats inner_s
+                WHERE inner_s.beacon_id = s.beacon_id
+                AND inner_s.user_id IN :friendIds
+                ORDER BY inner_s.latest_posted_at DESC
+                LIMIT 1
+            ) as thumbnail_url,
+            MAX(s.latest_posted_at) as latest_posted_at
+        FROM user_beacon_stats s
+        WHERE s.user_id IN :friendIds
+        AND s.{cell} IN :cellIds
+        GROUP BY s.beacon_id
+        ORDER BY latest_posted_at DESC
+        LIMIT :limit
+    """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public static String markersInCellsSql(int resolution) {
+        return MARKERS_IN_CELLS.replace("{cell}", CellColumns.of(resolution));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findMarkersByFriendsInCells(List<Long> friendIds, int resolution, List<String> cellIds, int limit) {
+        return entityManager.createNativeQuery(markersInCellsSql(resolution))
+                .setParameter("friendIds", friendIds)
+                .setParameter("cellIds", cellIds)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,79 @@
+package com.teamloci.loci.domain.stat.repository;
+
+import com.teamloci.loci.domain.stat.entity.UserCellStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface UserCellStatsRepository extends JpaRepository<UserCellStats, Long>, UserCellStatsRepositoryCustom {
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        DELETE FROM user_cell_stats
+        WHERE user_id = :userId AND resolution = :resolution AND cell_id = :cellId AND post_count = 0
+    """, nativeQuery = true)
+    void deleteCellIfEmpty(@Param("userId") Long userId, @Param("resolution") int resolution, @Param("cellId") String cellId);
+
+    @Query(value = """
+        SELECT
+            c.cell_id,
+            SUM(c.post_count),
+            (
+                SELECT inner_c.latest_thumbnail_url
+                FROM user_cell_stats inner_c
+                WHERE inner_c.resolution = :resolution
+                AND inner_c.cell_id = c.cell_id
+                AND inner_c.user_id IN :friendIds
+                ORDER BY inner_c.latest_posted_at DESC
+                LIMIT 1
+            ) as thumbnail_url,
+            MAX(c.latest_posted_at) as latest_posted_at
+        FROM user_cell_stats c
+        WHERE c.resolution = :resolution
+        AND c.user_id IN :friendIds
+        AND c.latitude BETWEEN :minLat AND :maxLat
+        AND c.longitude BETWEEN :minLon AND :maxLon
+        GROUP BY c.cell_id
+        ORDER BY latest_posted_at DESC
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Object[]> findCellMarkersByFriendsInArea(
+            @Param("friendIds") List<Long> friendIds,
+            @Param("resolution") int resolution,
+            @Param("minLat") Double minLat, @Param("maxLat") Double maxLat,
+            @Param("minLon") Double minLon, @Param("maxLon") Double maxLon,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+        SELECT
+            c.cell_id,
+            SUM(c.post_count),
+            (
+                SELECT inner_c.latest_thumbnail_url
+                FROM user_cell_stats inner_c
+                WHERE inner_c.resolution = :resolution
+                AND inner_c.cell_id = c.cell_id
+                AND inner_c.user_id IN :friendIds
+                ORDER BY inner_c.latest_posted_at DESC
+                LIMIT 1
+            ) as thumbnail_url,
+            MAX(c.latest_posted_at) as latest_posted_at
+        FROM user_cell_stats c
+        WHERE c.user_id IN :friendIds
+        AND c.resolution = :resolution
+        AND c.cell_id IN :cellIds
+        GROUP BY c.cell_id
+        ORDER BY latest_posted_at DESC
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Object[]> findCellMarkersByFriendsInCells(
+            @Param("friendIds") List<Long> friendIds,
+            @Param("resolution") int resolution,
+            @Param("cellIds") List<String> cellIds,
+            @Param("limit") int limit
+    );
+}
\ No newline at end of file
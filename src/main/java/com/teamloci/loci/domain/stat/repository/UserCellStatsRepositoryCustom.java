@@ -0,0 +1,12 @@
+package com.teamloci.loci.domain.stat.repository;
+
+import java.util.List;
+
+public interface UserCellStatsRepositoryCustom {
+
+    void upsertCell(Long userId, int resolution, String cellId, Double lat, Double lon);
+
+    int syncCells(int resolution, List<Long> userIds, List<String> cellIds);
+
+    int deleteEmptyCells(int resolution, List<Long> userIds, List<String> cellIds);
+}
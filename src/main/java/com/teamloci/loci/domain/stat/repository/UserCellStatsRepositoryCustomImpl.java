@@ -0,0 +1,96 @@
+package com.teamloci.loci.domain.stat.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+public class UserCellStatsRepositoryCustomImpl implements UserCellStatsRepositoryCustom {
+
+    private static final String UPSERT_CELL = """
+        INSERT INTO user_cell_stats (user_id, resolution, cell_id, latitude, longitude, post_count, latest_thumbnail_url, latest_posted_at)
+        SELECT :userId, :resolution, :cellId, :lat, :lon,
+            COALESCE(SUM(s.post_count), 0),
+            (
+                SELECT inner_s.latest_thumbnail_url
+                FROM user_beacon_stats inner_s
+                WHERE inner_s.user_id = :userId AND inner_s.{cell} = :cellId
+                ORDER BY inner_s.latest_posted_at DESC
+                LIMIT 1
+            ),
+            MAX(s.latest_posted_at)
+        FROM user_beacon_stats s
+        WHERE s.user_id = :userId AND s.{cell} = :cellId
+        ON DUPLICATE KEY UPDATE
+            post_count = VALUES(post_count),
+            latest_thumbnail_url = VALUES(latest_thumbnail_url),
+            latest_posted_at = VALUES(latest_posted_at)
+    """;
+
+    private static final String SYNC_CELLS = """
+        UPDATE user_cell_stats c
+        JOIN (
+            SELECT s.user_id, s.{cell} AS cell_id, SUM(s.post_count) AS cnt, MAX(s.latest_posted_at) AS latest_posted_at
+            FROM user_beacon_stats s
+            WHERE s.user_id IN :userIds AND s.{cell} IN :cellIds
+            GROUP BY s.user_id, s.{cell}
+        ) a ON c.user_id = a.user_id AND c.cell_id = a.cell_id
+        SET c.post_count = a.cnt,
+            c.latest_posted_at = a.latest_posted_at,
+            c.latest_thumbnail_url = (
+                SELECT inner_s.latest_thumbnail_url
+                FROM user_beacon_stats inner_s
+                WHERE inner_s.user_id = a.user_id AND inner_s.{cell} = a.cell_id
+                ORDER BY inner_s.latest_posted_at DESC
+                LIMIT 1
+            )
+        WHERE c.resolution = :resolution
+    """;
+
+    private static final String DELETE_EMPTY_CELLS = """
+        DELETE FROM user_cell_stats
+        WHERE resolution = :resolution
+        AND user_id IN :userIds
+        AND cell_id IN :cellIds
+        AND NOT EXISTS (
+            SELECT 1 FROM user_beacon_stats s
+            WHERE s.user_id = user_cell_stats.user_id AND s.{cell} = user_cell_stats.cell_id
+        )
+    """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void upsertCell(Long userId, int resolution, String cellId, Double lat, Double lon) {
+        entityManager.flush();
+        entityManager.createNativeQuery(UPSERT_CELL.replace("{cell}", CellColumns.ofParentCell(resolution)))
+                .setParameter("userId", userId)
+                .setParameter("resolution", resolution)
+                .setParameter("cellId", cellId)
+                .setParameter("lat", lat)
+                .setParameter("lon", lon)
+                .executeUpdate();
+    }
+
+    @Override
+    public int syncCells(int resolution, List<Long> userIds, List<String> cellIds) {
+        return executeForCells(SYNC_CELLS, resolution, userIds, cellIds);
+    }
+
+    @Override
+    public int deleteEmptyCells(int resolution, List<Long> userIds, List<String> cellIds) {
+        return executeForCells(DELETE_EMPTY_CELLS, resolution, userIds, cellIds);
+    }
+
+    private int executeForCells(String sql, int resolution, List<Long> userIds, List<String> cellIds) {
+        entityManager.flush();
+        int rows = entityManager.createNativeQuery(sql.replace("{cell}", CellColumns.ofParentCell(resolution)))
+                .setParameter("resolution", resolution)
+                .setParameter("userIds", userIds)
+                .setParameter("cellIds", cellIds)
+                .executeUpdate();
+        entityManager.clear();
+        return rows;
+    }
+}
@@ -0,0 +1,168 @@
+package com.teamloci.loci.domain.stat.service;
+
+import com.teamloci.loci.domain.stat.repository.UserBeaconStatsRepository;
+import com.teamloci.loci.global.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BeaconPresenceIndex {
+
+    private static final String KEY_PREFIX = "presence:beacon:";
+    private static final String GENERATION_PREFIX = "presence:beacon:gen:";
+    private static final String LOADED_MARKER = "-";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final Duration GENERATION_TTL = Duration.ofDays(2);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserBeaconStatsRepository userBeaconStatsRepository;
+
+    public Map<Long, Long> findVisitors(List<String> beaconIds) {
+        Map<Long, Long> latestByUser = new HashMap<>();
+        if (beaconIds.isEmpty()) return latestByUser;
+
+        Map<String, String> missingGenerations = new HashMap<>();
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    beaconIds.forEach(beaconId -> {
+                        operations.opsForZSet().rangeWithScores(key(beaconId), 0, -1);
+                        operations.opsForValue().get(generationKey(beaconId));
+                    });
+                    return null;
+                }
+            });
+
+            for (int i = 0; i < beaconIds.size(); i++) {
+                @SuppressWarnings("unchecked")
+                Set<ZSetOperations.TypedTuple<String>> members = (Set<ZSetOperations.TypedTuple<String>>) results.get(2 * i);
+                if (members == null || members.isEmpty()) {
+                    Object generation = results.get(2 * i + 1);
+                    missingGenerations.put(beaconIds.get(i), generation == null ? "0" : generation.toString());
+                    continue;
+                }
+                members.stream()
+                        .filter(member -> !LOADED_MARKER.equals(member.getValue()))
+                        .forEach(member -> latestByUser.merge(
+                                Long.valueOf(member.getValue()), member.getScore().longValue(), Math::max));
+            }
+        } catch (Exception e) {
+            log.warn("[Presence] 비콘 방문자 인덱스 조회 실패, DB 조회로 대체: {}", e.getMessage());
+            latestByUser.clear();
+            missingGenerations.clear();
+            beaconIds.forEach(beaconId -> missingGenerations.put(beaconId, null));
+        }
+
+        if (!missingGenerations.isEmpty()) {
+            loadFromStats(missingGenerations).forEach((beaconId, visitors) ->
+                    visitors.forEach((userId, latest) -> latestByUser.merge(userId, latest, Math::max)));
+        }
+        return latestByUser;
+    }
+
+    public void evictAfterCommit(String beaconId) {
+        if (beaconId == null) return;
+
+        evictAfterCommit(List.of(beaconId));
+    }
+
+    public void evictAfterCommit(Collection<String> beaconIds) {
+        if (beaconIds == null || beaconIds.isEmpty()) return;
+
+        List<String> targets = List.copyOf(beaconIds);
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Object execute(RedisOperations operations) throws DataAccessException {
+                        targets.forEach(beaconId -> {
+                            operations.opsForValue().increment(generationKey(beaconId));
+                            operations.expire(generationKey(beaconId), GENERATION_TTL);
+                            operations.delete(key(beaconId));
+                        });
+                        return null;
+                    }
+                });
+            } catch (Exception e) {
+                log.error("[Presence] 비콘 방문자 인덱스 삭제 실패: {}건", targets.size(), e);
+            }
+        });
+    }
+
+    private Map<String, Map<Long, Long>> loadFromStats(Map<String, String> generations) {
+        Map<String, Map<Long, Long>> visitorsByBeacon = new HashMap<>();
+        generations.keySet().forEach(beaconId -> visitorsByBeacon.put(beaconId, new HashMap<>()));
+
+        userBeaconStatsRepository.findPresenceByBeaconIds(List.copyOf(generations.keySet())).forEach(row -> {
+            String beaconId = (String) row[0];
+            Long userId = (Long) row[1];
+            LocalDateTime latestPostedAt = (LocalDateTime) row[2];
+            long score = latestPostedAt == null ? 0L : latestPostedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+            visitorsByBeacon.get(beaconId).put(userId, score);
+        });
+
+        visitorsByBeacon.forEach((beaconId, visitors) -> {
+            String generation = generations.get(beaconId);
+            if (generation != null) {
+                store(beaconId, generation, visitors);
+            }
+        });
+        return visitorsByBeacon;
+    }
+
+    private void store(String beaconId, String generation, Map<Long, Long> visitors) {
+        List<String> args = new ArrayList<>(2 + (visitors.size() + 1) * 2);
+        args.add(generation);
+        args.add(String.valueOf(TTL.getSeconds()));
+        args.add("0");
+        args.add(LOADED_MARKER);
+        visitors.forEach((userId, score) -> {
+            args.add(String.valueOf(score));
+            args.add(String.valueOf(userId));
+        });
+
+        try {
+            redisTemplate.execute(LOAD_SCRIPT, List.of(key(beaconId), generationKey(beaconId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("[Presence] 비콘 방문자 인덱스 적재 실패: beaconId={}, {}", beaconId, e.getMessage());
+        }
+    }
+
+    private String key(String beaconId) {
+        return KEY_PREFIX + beaconId;
+    }
+
+    private String generationKey(String beaconId) {
+        return GENERATION_PREFIX + beaconId;
+    }
+}
@@ -0,0 +1,107 @@
+package com.teamloci.loci.domain.stat.service;
+
+import com.teamloci.loci.domain.stat.entity.UserBeaconStats;
+import com.teamloci.loci.domain.stat.repository.UserBeaconStatsRepository;
+import com.teamloci.loci.domain.stat.repository.UserCellStatsRepository;
+import com.teamloci.loci.global.util.BackfillCoordinator;
+import com.teamloci.loci.global.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserCellStatsService {
+
+    public static final String BACKFILL_NAME = "cell-stats";
+
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final UserCellStatsRepository userCellStatsRepository;
+    private final UserBeaconStatsRepository userBeaconStatsRepository;
+    private final GeoUtils geoUtils;
+    private final PlatformTransactionManager transactionManager;
+    private final BackfillCoordinator backfillCoordinator;
+
+    @Value("${feature.backfill-cell-stats:true}")
+    private boolean backfillOnStartup;
+
+    public boolean isReady() {
+        return backfillCoordinator.isComplete(BACKFILL_NAME);
+    }
+
+    @Transactional
+    public void refresh(Long userId, String beaconId) {
+        refreshCell(userId, GeoUtils.REGION_RESOLUTION, geoUtils.toParentCell(beaconId, GeoUtils.REGION_RESOLUTION));
+        refreshCell(userId, GeoUtils.CITY_RESOLUTION, geoUtils.toParentCell(beaconId, GeoUtils.CITY_RESOLUTION));
+    }
+
+    private void refreshCell(Long userId, int resolution, String cellId) {
+        if (cellId == null) return;
+
+        GeoUtils.Pair<Double, Double> center = geoUtils.beaconIdToLatLng(cellId);
+        if (center == null) return;
+
+        userCellStatsRepository.upsertCell(userId, resolution, cellId, center.lat, center.lng);
+        userCellStatsRepository.deleteCellIfEmpty(userId, resolution, cellId);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) return;
+
+        backfillCoordinator.runOnce(BACKFILL_NAME, this::backfill);
+    }
+
+    private void backfill() {
+        log.info("🔄 [CellStats] 상위 셀 집계 백필을 시작합니다.");
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        long lastId = 0L;
+        long processed = 0L;
+        while (true) {
+            final long cursor = lastId;
+            List<UserBeaconStats> chunk = template.execute(status -> backfillChunk(cursor));
+            if (chunk == null || chunk.isEmpty()) break;
+
+            lastId = chunk.get(chunk.size() - 1).getId();
+            processed += chunk.size();
+        }
+
+        log.info("✅ [CellStats] 상위 셀 집계 백필 완료: {}건", processed);
+    }
+
+    private List<UserBeaconStats> backfillChunk(long lastId) {
+        List<UserBeaconStats> chunk = userBeaconStatsRepository.findByIdGreaterThanAndCellR5IsNullOrderByIdAsc(
+                lastId, PageRequest.of(0, BACKFILL_CHUNK_SIZE));
+
+        for (UserBeaconStats stats : chunk) {
+            stats.assignParentCells(
+                    geoUtils.toParentCell(stats.getBeaconId(), GeoUtils.REGION_RESOLUTION),
+                    geoUtils.toParentCell(stats.getBeaconId(), GeoUtils.CITY_RESOLUTION)
+            );
+        }
+
+        Set<String> refreshedCells = new HashSet<>();
+        for (UserBeaconStats stats : chunk) {
+            if (refreshedCells.add(stats.getUserId() + ":" + stats.getCellR7())) {
+                refresh(stats.getUserId(), stats.getBeaconId());
+            }
+        }
+        return chunk;
+    }
+}
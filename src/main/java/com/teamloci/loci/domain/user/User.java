@@ -54,6 +54,10 @@ public class User {
     @Column(name = "fcm_token")
     private String fcmToken;
 
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int pushFailureStreak = 0;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -130,6 +134,7 @@ public class User {
 
     public void updateFcmToken(String fcmToken) {
         this.fcmToken = fcmToken;
+        this.pushFailureStreak = 0;
     }
 
     public void withdraw() {
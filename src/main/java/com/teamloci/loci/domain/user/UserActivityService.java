@@ -5,18 +5,25 @@ import com.teamloci.loci.domain.post.entity.PostStatus;
 import com.teamloci.loci.domain.post.repository.PostRepository;
 import com.teamloci.loci.global.error.CustomException;
 import com.teamloci.loci.global.error.ErrorCode;
+import com.teamloci.loci.global.cache.TwoLevelCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,7 +34,11 @@ public class UserActivityService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
 
-    private final ObjectProvider<UserActivityService> selfProvider;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final CacheManager cacheManager;
+
+    private static final Duration STATS_CACHE_TTL = Duration.ofMinutes(1);
 
     public record UserStats(long friendCount, long postCount, long streakCount, long visitedPlaceCount, int totalIntimacyLevel) {}
 
@@ -38,30 +49,100 @@ public class UserActivityService {
             return new UserStats(0, 0, 0, 0, 0);
         }
 
-        long effectiveStreak = calculateEffectiveStreak(user);
+        return toUserStats(user);
+    }
+
+    public Map<Long, UserStats> getUserStatsMap(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> distinctIds = userIds.stream().distinct().toList();
+        Map<Long, UserStats> result = new HashMap<>();
+        TwoLevelCache localCache = cacheManager.getCache("userStats") instanceof TwoLevelCache c ? c : null;
+
+        List<Long> remoteIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            if (localCache != null && localCache.getLocal(id) instanceof UserStats stats) {
+                result.put(id, stats);
+            } else {
+                remoteIds.add(id);
+            }
+        }
+        int localHits = result.size();
+
+        List<Long> missIds = new ArrayList<>(remoteIds);
+        try {
+            List<Object> cached = remoteIds.isEmpty() ? null : redisTemplate.opsForValue().multiGet(
+                    remoteIds.stream().map(this::statsCacheKey).toList());
+
+            if (cached != null) {
+                missIds.clear();
+                for (int i = 0; i < remoteIds.size(); i++) {
+                    if (cached.get(i) instanceof UserStats stats) {
+                        result.put(remoteIds.get(i), stats);
+                        if (localCache != null) localCache.putLocal(remoteIds.get(i), stats);
+                    } else {
+                        missIds.add(remoteIds.get(i));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("유저 통계 캐시 조회 실패: {}", e.getMessage());
+        }
+
+        statsCacheCounter("local_hit").increment(localHits);
+        statsCacheCounter("hit").increment(result.size() - localHits);
+        statsCacheCounter("miss").increment(missIds.size());
 
+        if (missIds.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, UserStats> loaded = new HashMap<>();
+        userRepository.findAllById(missIds).forEach(user -> loaded.put(user.getId(), toUserStats(user)));
+        missIds.forEach(id -> loaded.putIfAbsent(id, new UserStats(0, 0, 0, 0, 0)));
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    loaded.forEach((id, stats) ->
+                            operations.opsForValue().set(statsCacheKey(id), stats, STATS_CACHE_TTL));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("유저 통계 캐시 저장 실패: {}", e.getMessage());
+        }
+
+        if (localCache != null) {
+            loaded.forEach(localCache::putLocal);
+        }
+
+        result.putAll(loaded);
+        return result;
+    }
+
+    private UserStats toUserStats(User user) {
         return new UserStats(
                 user.getFriendCount(),
                 user.getPostCount(),
-                effectiveStreak,
+                calculateEffectiveStreak(user),
                 user.getVisitedPlaceCount(),
                 user.getTotalIntimacyLevel()
         );
     }
 
-    public Map<Long, UserStats> getUserStatsMap(List<Long> userIds) {
-        if (userIds == null || userIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        UserActivityService self = selfProvider.getObject();
+    private String statsCacheKey(Long userId) {
+        return "userStats::" + userId;
+    }
 
-        return userIds.stream()
-                .distinct()
-                .collect(Collectors.toMap(
-                        id -> id,
-                        self::getUserStats
-                ));
+    private Counter statsCacheCounter(String result) {
+        return Counter.builder("cache.user_stats.bulk")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     private long calculateEffectiveStreak(User user) {
@@ -0,0 +1,101 @@
+package com.teamloci.loci.domain.user;
+
+import com.teamloci.loci.domain.friend.SocialGraph;
+import com.teamloci.loci.domain.intimacy.entity.FriendshipIntimacy;
+import com.teamloci.loci.domain.intimacy.service.IntimacyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class UserCardLoader {
+
+    private static final UserActivityService.UserStats EMPTY_STATS = new UserActivityService.UserStats(0, 0, 0, 0, 0);
+
+    private final SocialGraph socialGraph;
+    private final UserActivityService userActivityService;
+    private final IntimacyService intimacyService;
+
+    private final Map<Long, UserActivityService.UserStats> statsCache = new HashMap<>();
+    private final Map<Long, ViewerCache> viewerCaches = new HashMap<>();
+
+    private static class ViewerCache {
+        private final Set<Long> loadedIds = new HashSet<>();
+        private final Map<Long, String> relations = new HashMap<>();
+        private final Map<Long, FriendshipIntimacy> intimacies = new HashMap<>();
+    }
+
+    public void load(Long myUserId, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) return;
+
+        List<Long> missingStatIds = userIds.stream()
+                .distinct()
+                .filter(id -> !statsCache.containsKey(id))
+                .toList();
+        if (!missingStatIds.isEmpty()) {
+            statsCache.putAll(userActivityService.getUserStatsMap(missingStatIds));
+        }
+
+        ViewerCache cache = viewerCaches.computeIfAbsent(myUserId, k -> new ViewerCache());
+        List<Long> missingOtherIds = userIds.stream()
+                .distinct()
+                .filter(id -> !id.equals(myUserId))
+                .filter(id -> !cache.loadedIds.contains(id))
+                .toList();
+        if (missingOtherIds.isEmpty()) return;
+
+        cache.relations.putAll(socialGraph.relationStatuses(myUserId, missingOtherIds));
+        cache.intimacies.putAll(intimacyService.getIntimacyMap(myUserId, missingOtherIds));
+        cache.loadedIds.addAll(missingOtherIds);
+    }
+
+    public List<UserDto.UserResponse> toResponses(Long myUserId, List<User> users) {
+        load(myUserId, users.stream().map(User::getId).collect(Collectors.toSet()));
+
+        return users.stream()
+                .map(user -> toResponse(myUserId, user))
+                .collect(Collectors.toList());
+    }
+
+    public UserDto.UserResponse toResponse(Long myUserId, User user) {
+        load(myUserId, List.of(user.getId()));
+
+        var stats = statsCache.getOrDefault(user.getId(), EMPTY_STATS);
+
+        UserDto.UserResponse response = UserDto.UserResponse.of(
+                user, resolveRelation(myUserId, user.getId()),
+                stats.friendCount(), stats.postCount(), stats.streakCount(), stats.visitedPlaceCount()
+        );
+        response.applyIntimacyInfo(findIntimacy(myUserId, user.getId()), stats.totalIntimacyLevel());
+
+        return response;
+    }
+
+    public void fill(Long myUserId, UserDto.UserResponse userRes) {
+        load(myUserId, List.of(userRes.getId()));
+
+        userRes.setRelationStatus(resolveRelation(myUserId, userRes.getId()));
+
+        var stats = statsCache.getOrDefault(userRes.getId(), EMPTY_STATS);
+        userRes.setFriendCount(stats.friendCount());
+        userRes.setPostCount(stats.postCount());
+        userRes.setStreakCount(stats.streakCount());
+        userRes.setVisitedPlaceCount(stats.visitedPlaceCount());
+
+        userRes.applyIntimacyInfo(findIntimacy(myUserId, userRes.getId()), stats.totalIntimacyLevel());
+    }
+
+    private String resolveRelation(Long myUserId, Long userId) {
+        if (userId.equals(myUserId)) return "SELF";
+        return viewerCaches.get(myUserId).relations.getOrDefault(userId, "NONE");
+    }
+
+    private FriendshipIntimacy findIntimacy(Long myUserId, Long userId) {
+        return viewerCaches.get(myUserId).intimacies.get(userId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.teamloci.loci.domain.user;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+public record UserPushTarget(Long id, String fcmToken, String countryCode, String timezone) {
+
+    public ZoneId zoneIdOrDefault() {
+        try {
+            return timezone != null ? ZoneId.of(timezone) : ZoneId.of("Asia/Seoul");
+        } catch (DateTimeException e) {
+            return ZoneId.of("Asia/Seoul");
+        }
+    }
+}
@@ -38,8 +38,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "ORDER BY u.id DESC")
     List<User> searchByKeywordWithCursor(@Param("keyword") String keyword, @Param("cursor") Long cursor, Pageable pageable);
 
-    @Query("SELECT u FROM User u WHERE u.status = 'ACTIVE' AND u.fcmToken IS NOT NULL AND u.fcmToken <> ''")
-    Slice<User> findActiveUsersWithFcmToken(Pageable pageable);
+    @Query("SELECT MIN(u.id), MAX(u.id) FROM User u")
+    List<Object[]> findIdRange();
+
+    @Query("SELECT u.id, u.totalIntimacyLevel FROM User u " +
+            "WHERE u.id > :afterId AND u.status = 'ACTIVE' " +
+            "ORDER BY u.id")
+    List<Object[]> findTotalIntimacyLevelsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.teamloci.loci.domain.user.UserPushTarget(u.id, u.fcmToken, u.countryCode, u.timezone) " +
+            "FROM User u " +
+            "WHERE u.id > :afterId AND u.id <= :maxId " +
+            "AND u.status = 'ACTIVE' " +
+            "AND u.isLociTimePushEnabled = true " +
+            "AND u.fcmToken IS NOT NULL AND u.fcmToken <> '' " +
+            "ORDER BY u.id")
+    List<UserPushTarget> findLociPushTargets(@Param("afterId") Long afterId, @Param("maxId") Long maxId, Pageable pageable);
 
     @Query("SELECT u FROM User u WHERE u.status = 'ACTIVE' " +
             "AND u.fcmToken IS NOT NULL AND u.fcmToken <> '' " +
@@ -79,4 +93,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByBluetoothToken(String bluetoothToken);
 
     List<User> findByBluetoothTokenIn(List<String> bluetoothTokens);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = NULL, u.pushFailureStreak = 0 " +
+            "WHERE u.id IN :userIds AND u.fcmToken IN :tokens")
+    int clearFcmTokens(@Param("userIds") List<Long> userIds, @Param("tokens") List<String> tokens);
+
+    @Modifying
+    @Query("UPDATE User u SET u.pushFailureStreak = u.pushFailureStreak + 1 " +
+            "WHERE u.id IN :userIds AND u.fcmToken IN :tokens")
+    int increasePushFailureStreak(@Param("userIds") List<Long> userIds, @Param("tokens") List<String> tokens);
+
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = NULL, u.pushFailureStreak = 0 " +
+            "WHERE u.id IN :userIds AND u.pushFailureStreak >= :threshold")
+    int clearFcmTokensOverStreak(@Param("userIds") List<Long> userIds, @Param("threshold") int threshold);
+
+    @Modifying
+    @Query("UPDATE User u SET u.pushFailureStreak = 0 " +
+            "WHERE u.id IN :userIds AND u.pushFailureStreak > 0")
+    int resetPushFailureStreak(@Param("userIds") List<Long> userIds);
+}
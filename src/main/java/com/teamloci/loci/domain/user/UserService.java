@@ -1,19 +1,23 @@
 package com.teamloci.loci.domain.user;
 
 import com.teamloci.loci.domain.badge.UserBadgeRepository;
-import com.teamloci.loci.domain.friend.Friendship;
+import com.teamloci.loci.domain.friend.FriendGraphCache;
+import com.teamloci.loci.domain.friend.FriendshipEdgeService;
 import com.teamloci.loci.domain.friend.FriendshipRepository;
+import com.teamloci.loci.domain.friend.SocialGraph;
 import com.teamloci.loci.domain.intimacy.entity.FriendshipIntimacy;
 import com.teamloci.loci.domain.intimacy.repository.FriendshipIntimacyRepository;
+import com.teamloci.loci.domain.intimacy.service.IntimacyLeaderboard;
 import com.teamloci.loci.domain.intimacy.repository.IntimacyLevelRepository;
 import com.teamloci.loci.domain.intimacy.repository.IntimacyLogRepository;
 import com.teamloci.loci.domain.notification.NotificationRepository;
+import com.teamloci.loci.domain.notification.UnreadNotificationCounter;
 import com.teamloci.loci.domain.post.repository.PostCommentRepository;
 import com.teamloci.loci.domain.post.repository.PostRepository;
+import com.teamloci.loci.domain.post.service.FriendTimelineStore;
 import com.teamloci.loci.global.error.CustomException;
 import com.teamloci.loci.global.error.ErrorCode;
 import com.teamloci.loci.global.infra.S3UploadService;
-import com.teamloci.loci.global.util.RelationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,7 +26,6 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,14 +37,20 @@ public class UserService {
     private final UserRepository userRepository;
     private final S3UploadService s3UploadService;
     private final FriendshipRepository friendshipRepository;
+    private final FriendshipEdgeService friendshipEdgeService;
     private final UserActivityService userActivityService;
     private final FriendshipIntimacyRepository intimacyRepository;
     private final UserBadgeRepository userBadgeRepository;
     private final FriendshipIntimacyRepository friendshipIntimacyRepository;
     private final PostCommentRepository postCommentRepository;
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final IntimacyLeaderboard intimacyLeaderboard;
+    private final SocialGraph socialGraph;
     private final IntimacyLogRepository intimacyLogRepository;
     private final PostRepository postRepository;
+    private final FriendTimelineStore friendTimelineStore;
+    private final FriendGraphCache friendGraphCache;
 
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
@@ -61,8 +70,7 @@ public class UserService {
         if (myUserId.equals(targetUserId)) {
             relationStatus = "SELF";
         } else {
-            Optional<Friendship> friendship = friendshipRepository.findFriendshipBetween(myUserId, targetUserId);
-            relationStatus = RelationUtil.resolveStatus(friendship.orElse(null), myUserId);
+            relationStatus = socialGraph.relationStatus(myUserId, targetUserId);
         }
 
         UserDto.UserResponse response = UserDto.UserResponse.of(
@@ -99,18 +107,7 @@ public class UserService {
 
         List<Long> targetUserIds = users.stream().map(User::getId).toList();
 
-        List<Friendship> friendships = friendshipRepository.findAllRelationsBetween(myUserId, targetUserIds);
-        Map<Long, Friendship> friendshipMap = friendships.stream()
-                .collect(Collectors.toMap(
-                        f -> f.getRequester().getId().equals(myUserId) ? f.getReceiver().getId() : f.getRequester().getId(),
-                        f -> f,
-                        (existing, replacement) -> {
-                            log.warn("Duplicate friendship found for user {}. existing: {}, replacement: {}",
-                                    existing.getRequester().getId().equals(myUserId) ? existing.getReceiver().getId() : existing.getRequester().getId(),
-                                    existing.getId(), replacement.getId());
-                            return existing;
-                        }
-                ));
+        Map<Long, String> relationMap = socialGraph.relationStatuses(myUserId, targetUserIds);
 
         Map<Long, UserActivityService.UserStats> statsMap = userActivityService.getUserStatsMap(targetUserIds);
 
@@ -136,8 +133,7 @@ public class UserService {
             if (myUserId.equals(targetId)) {
                 relationStatus = "SELF";
             } else {
-                Friendship friendship = friendshipMap.get(targetId);
-                relationStatus = RelationUtil.resolveStatus(friendship, myUserId);
+                relationStatus = relationMap.getOrDefault(targetId, "NONE");
 
                 if ("FRIEND".equals(relationStatus)) {
                     intimacy = intimacyMap.get(targetId);
@@ -228,12 +224,24 @@ public class UserService {
         userBadgeRepository.deleteByUser(user);
         user.updateMainBadge(null);
 
+        List<Long> affectedUserIds = friendGraphCache.getFriendIds(userId);
+        affectedUserIds.add(userId);
+        friendGraphCache.evictAfterCommit(affectedUserIds);
+        friendTimelineStore.evictAfterCommit(affectedUserIds.toArray(Long[]::new));
+
         friendshipRepository.deleteByRequesterOrReceiver(user, user);
+        friendshipEdgeService.deleteAllForUser(userId);
+        socialGraph.removeUserAfterCommit(userId);
 
+        List<Long> intimacyPartnerIds = friendshipIntimacyRepository.findAllByUserId(userId).stream()
+                .map(fi -> fi.getUserAId().equals(userId) ? fi.getUserBId() : fi.getUserAId())
+                .toList();
+        intimacyLeaderboard.removeUserAfterCommit(userId, intimacyPartnerIds);
         friendshipIntimacyRepository.deleteByUserAIdOrUserBId(userId, userId);
         intimacyLogRepository.deleteByActorIdOrTargetId(userId, userId);
 
         notificationRepository.deleteByReceiver(user);
+        unreadNotificationCounter.evictAfterCommit(userId);
 
         postCommentRepository.deleteByUser(user);
         postRepository.deleteByUser(user);
@@ -0,0 +1,31 @@
+package com.teamloci.loci.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 캐시 키에 세대 번호를 붙여, 무효화 이후 늦게 도착한 이전 세대 값이 다시 읽히지 않도록 한다.
+ * 세대 키의 TTL은 데이터 키 TTL보다 길어야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheGeneration {
+
+    private static final Duration GENERATION_TTL = Duration.ofDays(4);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public String current(String generationKey) {
+        String generation = redisTemplate.opsForValue().get(generationKey);
+        return generation == null ? "0" : generation;
+    }
+
+    public long bump(String generationKey) {
+        Long generation = redisTemplate.opsForValue().increment(generationKey);
+        redisTemplate.expire(generationKey, GENERATION_TTL);
+        return generation == null ? 0L : generation;
+    }
+}
@@ -0,0 +1,42 @@
+package com.teamloci.loci.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+    public static final String CLEAR_ALL = "*";
+
+    private static final String DELIMITER = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId;
+
+    public void publishEvict(String cacheName, String key) {
+        publish(cacheName, key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, CLEAR_ALL);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public static String[] parse(String message) {
+        return message.split("\\" + DELIMITER, 3);
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + cacheName + DELIMITER + key);
+        } catch (Exception e) {
+            log.error("[Cache] 캐시 무효화 메시지 발행 실패: cache={}, key={}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.teamloci.loci.global.cache;
+
+import java.time.Duration;
+
+public record LocalCacheSpec(long maximumSize, Duration expireAfterWrite, Duration refreshAfterWrite) {}
@@ -0,0 +1,39 @@
+package com.teamloci.loci.global.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+
+public class LongArrayRedisSerializer implements RedisSerializer<long[]> {
+
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte[] serialize(long[] values) throws SerializationException {
+        if (values == null) return null;
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + values.length * Long.BYTES);
+        buffer.put(VERSION);
+        for (long value : values) {
+            buffer.putLong(value);
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public long[] deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+
+        if (bytes[0] != VERSION || (bytes.length - 1) % Long.BYTES != 0) {
+            throw new SerializationException("지원하지 않는 long[] 직렬화 형식입니다.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        long[] values = new long[(bytes.length - 1) / Long.BYTES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getLong();
+        }
+        return values;
+    }
+}
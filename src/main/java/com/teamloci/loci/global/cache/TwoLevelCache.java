@@ -0,0 +1,120 @@
+package com.teamloci.loci.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache remoteCache;
+    private final LoadingCache<String, Object> localCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public TwoLevelCache(String name, Cache remoteCache, LocalCacheSpec spec, CacheInvalidationPublisher invalidationPublisher) {
+        super(true);
+        this.name = name;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.expireAfterWrite());
+        if (spec.refreshAfterWrite() != null) {
+            builder.refreshAfterWrite(spec.refreshAfterWrite());
+        }
+        this.localCache = builder.build(this::loadFromRemote);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) return value;
+
+        value = loadFromRemote(localKey);
+        if (value != null) {
+            localCache.put(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        localCache.put(localKey(key), toStoreValue(value));
+        invalidationPublisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(localKey(key));
+        invalidationPublisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    public Object getLocal(Object key) {
+        Object value = localCache.getIfPresent(localKey(key));
+        return value == null ? null : fromStoreValue(value);
+    }
+
+    public void putLocal(Object key, Object value) {
+        localCache.put(localKey(key), toStoreValue(value));
+    }
+
+    void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private Object loadFromRemote(String key) {
+        ValueWrapper wrapper = remoteCache.get(key);
+        return wrapper == null ? null : toStoreValue(wrapper.get());
+    }
+
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
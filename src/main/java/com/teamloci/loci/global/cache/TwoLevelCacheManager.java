@@ -0,0 +1,63 @@
+package com.teamloci.loci.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final RedisCacheManager redisCacheManager;
+    private final Map<String, LocalCacheSpec> localSpecs;
+    private final LocalCacheSpec defaultLocalSpec;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                Map<String, LocalCacheSpec> localSpecs,
+                                LocalCacheSpec defaultLocalSpec,
+                                CacheInvalidationPublisher invalidationPublisher) {
+        this.redisCacheManager = redisCacheManager;
+        this.localSpecs = localSpecs;
+        this.defaultLocalSpec = defaultLocalSpec;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remoteCache = redisCacheManager.getCache(cacheName);
+            LocalCacheSpec spec = localSpecs.getOrDefault(cacheName, defaultLocalSpec);
+            return new TwoLevelCache(cacheName, remoteCache, spec, invalidationPublisher);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = CacheInvalidationPublisher.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (parts.length != 3 || invalidationPublisher.getNodeId().equals(parts[0])) return;
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) return;
+
+        if (CacheInvalidationPublisher.CLEAR_ALL.equals(parts[2])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+        log.debug("[Cache] 원격 무효화 반영: cache={}, key={}", parts[1], parts[2]);
+    }
+}
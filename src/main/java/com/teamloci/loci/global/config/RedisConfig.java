@@ -1,5 +1,9 @@
 package com.teamloci.loci.global.config;
 
+import com.teamloci.loci.global.cache.CacheInvalidationPublisher;
+import com.teamloci.loci.global.cache.LocalCacheSpec;
+import com.teamloci.loci.global.cache.LongArrayRedisSerializer;
+import com.teamloci.loci.global.cache.TwoLevelCacheManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -9,11 +13,16 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
 
 @Configuration
 @EnableCaching
@@ -42,14 +51,49 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, long[]> longArrayRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, long[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new LongArrayRedisSerializer());
+
+        return template;
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate, UUID.randomUUID().toString());
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
                 .entryTtl(Duration.ofMinutes(1));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .withCacheConfiguration("userStats", config.entryTtl(Duration.ofMinutes(1)))
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        Map<String, LocalCacheSpec> localSpecs = Map.of(
+                "userStats", new LocalCacheSpec(10_000, Duration.ofSeconds(30), Duration.ofSeconds(10))
+        );
+        LocalCacheSpec defaultLocalSpec = new LocalCacheSpec(1_000, Duration.ofSeconds(30), null);
+
+        return new TwoLevelCacheManager(redisCacheManager, localSpecs, defaultLocalSpec, cacheInvalidationPublisher);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.teamloci.loci.global.counter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "counter_flush_log", indexes = {
+        @Index(name = "idx_counter_flush_log_flushed_at", columnList = "flushed_at")
+})
+public class CounterFlushLog {
+
+    @Id
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column(name = "counter_name", nullable = false, length = 64)
+    private String counterName;
+
+    @Column(name = "flushed_at", nullable = false)
+    private LocalDateTime flushedAt;
+}
@@ -0,0 +1,22 @@
+package com.teamloci.loci.global.counter;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface CounterFlushLogRepository extends JpaRepository<CounterFlushLog, String> {
+
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO counter_flush_log (batch_id, counter_name, flushed_at)
+        VALUES (:batchId, :counterName, NOW())
+    """, nativeQuery = true)
+    int claim(@Param("batchId") String batchId, @Param("counterName") String counterName);
+
+    @Modifying
+    @Query("DELETE FROM CounterFlushLog l WHERE l.flushedAt < :before")
+    int deleteByFlushedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,72 @@
+package com.teamloci.loci.global.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeltaBufferFlusher {
+
+    private static final int FLUSH_LOG_RETENTION_DAYS = 7;
+
+    private final CounterFlushLogRepository counterFlushLogRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    public void flush(RedisDeltaBuffer buffer, Consumer<Map<Long, Long>> applier) {
+        Optional<RedisDeltaBuffer.Batch> batch = buffer.beginFlush();
+        if (batch.isEmpty()) return;
+
+        String batchId = batch.get().id();
+        Map<Long, Long> deltas = batch.get().deltas();
+
+        Boolean applied = new TransactionTemplate(transactionManager).execute(status -> {
+            if (counterFlushLogRepository.claim(batchId, buffer.getName()) == 0) {
+                return false;
+            }
+            if (!deltas.isEmpty()) {
+                applier.accept(deltas);
+            }
+            return true;
+        });
+
+        if (!buffer.completeFlush(batchId)) {
+            log.info("[Counter] 다른 인스턴스가 이미 정리한 배치입니다: counter={}, batchId={}", buffer.getName(), batchId);
+        }
+
+        if (Boolean.TRUE.equals(applied)) {
+            Counter.builder("counter.flush.rows")
+                    .tag("counter", buffer.getName())
+                    .register(meterRegistry)
+                    .increment(deltas.size());
+        } else {
+            log.info("[Counter] 이미 반영된 배치를 정리합니다: counter={}, batchId={}", buffer.getName(), batchId);
+        }
+    }
+
+    public Map<Long, Long> pendingDeltas(RedisDeltaBuffer buffer, Collection<Long> ids) {
+        return buffer.pendingDeltas(ids, counterFlushLogRepository::existsById);
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void purgeFlushLog() {
+        int deleted = counterFlushLogRepository.deleteByFlushedAtBefore(
+                LocalDateTime.now().minusDays(FLUSH_LOG_RETENTION_DAYS));
+        log.info("[Counter] 오래된 카운터 반영 로그 {}건 삭제", deleted);
+    }
+}
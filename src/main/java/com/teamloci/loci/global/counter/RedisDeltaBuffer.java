@@ -0,0 +1,174 @@
+package com.teamloci.loci.global.counter;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+public class RedisDeltaBuffer {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+            local batch = redis.call('GET', KEYS[3])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                if not batch then
+                    batch = ARGV[1]
+                    redis.call('SET', KEYS[3], batch)
+                end
+            else
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return {}
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                batch = ARGV[1]
+                redis.call('SET', KEYS[3], batch)
+            end
+            local result = redis.call('HGETALL', KEYS[2])
+            table.insert(result, 1, batch)
+            return result
+            """, List.class);
+
+    private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) == ARGV[1] then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PENDING_SCRIPT = new DefaultRedisScript<>("""
+            local pending = redis.call('HMGET', KEYS[1], unpack(ARGV))
+            local flushing = redis.call('HMGET', KEYS[2], unpack(ARGV))
+            local result = {redis.call('GET', KEYS[3]) or ''}
+            for i = 1, #ARGV do
+                result[#result + 1] = pending[i] or '0'
+                result[#result + 1] = flushing[i] or '0'
+            end
+            return result
+            """, List.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_RANGE_SCRIPT = new DefaultRedisScript<>("""
+            local fields = redis.call('HGETALL', KEYS[1])
+            local fromId = tonumber(ARGV[1])
+            local toId = tonumber(ARGV[2])
+            local result = {}
+            for i = 1, #fields, 2 do
+                local id = tonumber(fields[i])
+                if id >= fromId and id < toId then
+                    redis.call('HDEL', KEYS[1], fields[i])
+                    result[#result + 1] = fields[i]
+                    result[#result + 1] = fields[i + 1]
+                end
+            end
+            return result
+            """, List.class);
+
+    private final String name;
+    private final String pendingKey;
+    private final String flushingKey;
+    private final String batchKey;
+    private final StringRedisTemplate redisTemplate;
+
+    public record Batch(String id, Map<Long, Long> deltas) {}
+
+    public RedisDeltaBuffer(String name, StringRedisTemplate redisTemplate) {
+        this.name = name;
+        this.pendingKey = "counter:{" + name + "}:pending";
+        this.flushingKey = "counter:{" + name + "}:flushing";
+        this.batchKey = "counter:{" + name + "}:batch";
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 다른 키와 함께 하나의 스크립트로 델타를 더해야 할 때 쓰는 미반영 델타 키.
+     */
+    public String getPendingKey() {
+        return pendingKey;
+    }
+
+    public void add(long id, long delta) {
+        redisTemplate.opsForHash().increment(pendingKey, String.valueOf(id), delta);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 델타를 돌려준다.
+     * 반영 중인 배치가 이미 커밋되었다면(batchApplied) 그 배치의 델타는 제외한다.
+     */
+    public Map<Long, Long> pendingDeltas(Collection<Long> ids, Predicate<String> batchApplied) {
+        Map<Long, Long> result = new HashMap<>();
+        if (ids.isEmpty()) return result;
+
+        List<Long> idList = List.copyOf(ids);
+        Object[] fields = idList.stream().map(String::valueOf).toArray();
+        List<?> values = redisTemplate.execute(PENDING_SCRIPT, List.of(pendingKey, flushingKey, batchKey), fields);
+        if (values == null || values.isEmpty()) return result;
+
+        String batchId = (String) values.get(0);
+        boolean hasFlushing = false;
+        for (int i = 0; i < idList.size(); i++) {
+            if (parse(values.get(2 + 2 * i)) != 0) hasFlushing = true;
+        }
+        boolean includeFlushing = hasFlushing && (batchId.isEmpty() || !batchApplied.test(batchId));
+
+        for (int i = 0; i < idList.size(); i++) {
+            long delta = parse(values.get(1 + 2 * i));
+            if (includeFlushing) delta += parse(values.get(2 + 2 * i));
+            if (delta != 0) result.put(idList.get(i), delta);
+        }
+        return result;
+    }
+
+    /**
+     * [fromId, toId) 구간의 미반영 델타를 원자적으로 꺼내 버퍼에서 지운다.
+     * 재집계 직전에 호출하면, 꺼낸 델타는 모두 재집계가 읽을 커밋에 이미 포함되어 있다.
+     */
+    public Map<Long, Long> drainRange(long fromId, long toId) {
+        List<?> result = redisTemplate.execute(DRAIN_RANGE_SCRIPT, List.of(pendingKey),
+                String.valueOf(fromId), String.valueOf(toId));
+        Map<Long, Long> deltas = new TreeMap<>();
+        if (result == null) return deltas;
+
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            long delta = parse(result.get(i + 1));
+            if (delta != 0) deltas.put(Long.valueOf((String) result.get(i)), delta);
+        }
+        return deltas;
+    }
+
+    /**
+     * drainRange 로 꺼낸 델타를 되돌린다. 재집계가 실패했을 때 사용한다.
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    public Optional<Batch> beginFlush() {
+        List<?> result = redisTemplate.execute(BEGIN_FLUSH_SCRIPT,
+                List.of(pendingKey, flushingKey, batchKey), UUID.randomUUID().toString());
+        if (result == null || result.isEmpty()) return Optional.empty();
+
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            long delta = parse(result.get(i + 1));
+            if (delta != 0) deltas.put(Long.valueOf((String) result.get(i)), delta);
+        }
+        return Optional.of(new Batch((String) result.get(0), deltas));
+    }
+
+    public boolean completeFlush(String batchId) {
+        Long completed = redisTemplate.execute(COMPLETE_FLUSH_SCRIPT, List.of(flushingKey, batchKey), batchId);
+        return completed != null && completed == 1L;
+    }
+
+    private long parse(Object value) {
+        return value == null ? 0L : Long.parseLong((String) value);
+    }
+}
@@ -0,0 +1,63 @@
+package com.teamloci.loci.global.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 새 조회 경로가 의존하는 백필의 완료 여부를 노드 간에 공유한다.
+ * 완료 전까지 호출부는 기존 조회 경로를 사용해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackfillCoordinator {
+
+    private static final String DONE_PREFIX = "backfill:done:";
+    private static final String LOCK_PREFIX = "backfill:lock:";
+    private static final Duration LOCK_TTL = Duration.ofHours(6);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLock redisLock;
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    public boolean isComplete(String name) {
+        if (completed.contains(name)) return true;
+
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(DONE_PREFIX + name))) {
+                completed.add(name);
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("[Backfill] 완료 여부 조회 실패: {}, {}", name, e.getMessage());
+        }
+        return false;
+    }
+
+    public void runOnce(String name, Runnable backfill) {
+        if (isComplete(name)) return;
+
+        String lockKey = LOCK_PREFIX + name;
+        String token = redisLock.tryAcquire(lockKey, LOCK_TTL);
+        if (token == null) {
+            log.info("[Backfill] 다른 인스턴스에서 백필을 진행 중입니다: {}", name);
+            return;
+        }
+
+        try {
+            backfill.run();
+            redisTemplate.opsForValue().set(DONE_PREFIX + name, "1");
+            completed.add(name);
+        } catch (Exception e) {
+            log.error("[Backfill] 백필 실패, 기존 조회 경로를 유지합니다: {}", name, e);
+        } finally {
+            redisLock.release(lockKey, token);
+        }
+    }
+}
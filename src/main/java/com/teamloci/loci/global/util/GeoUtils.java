@@ -1,8 +1,14 @@
 package com.teamloci.loci.global.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.uber.h3core.AreaUnit;
 import com.uber.h3core.H3Core;
+import com.uber.h3core.LengthUnit;
+import com.uber.h3core.util.LatLng;
 import com.teamloci.loci.global.error.CustomException;
 import com.teamloci.loci.global.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -13,7 +19,23 @@ public class GeoUtils {
 
     private final H3Core h3;
 
-    private static final int BEACON_RESOLUTION = 9;
+    public static final int BEACON_RESOLUTION = 9;
+    public static final int CITY_RESOLUTION = 7;
+    public static final int REGION_RESOLUTION = 5;
+
+    private static final int[] COVER_RESOLUTIONS = {BEACON_RESOLUTION, CITY_RESOLUTION, REGION_RESOLUTION};
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final Cache<Long, Pair<Double, Double>> centroidCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .build();
+
+    private final Cache<Long, List<String>> neighborCache = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .build();
+
+    @Value("${feature.dual-write-beacon-cell:true}")
+    private boolean dualWriteBeaconCell;
 
     public GeoUtils() {
         try {
@@ -24,20 +46,109 @@ public class GeoUtils {
     }
 
     public String latLngToBeaconId(Double latitude, Double longitude) {
+        Long beaconCell = latLngToBeaconCell(latitude, longitude);
+        return beaconCell == null ? null : toBeaconId(beaconCell);
+    }
+
+    public Long latLngToBeaconCell(Double latitude, Double longitude) {
         if (latitude == null || longitude == null) return null;
 
-        return h3.latLngToCellAddress(latitude, longitude, BEACON_RESOLUTION);
+        return h3.latLngToCell(latitude, longitude, BEACON_RESOLUTION);
     }
 
-    public Pair<Double, Double> beaconIdToLatLng(String beaconId) {
+    public String toBeaconId(long beaconCell) {
+        return h3.h3ToString(beaconCell);
+    }
+
+    public Long toBeaconCell(String beaconId) {
+        if (beaconId == null) return null;
         try {
-            var latLng = h3.cellToLatLng(beaconId);
+            long cell = h3.stringToH3(beaconId);
+            return h3.isValidCell(cell) ? cell : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public Long beaconCellForWrite(String beaconId) {
+        return dualWriteBeaconCell ? toBeaconCell(beaconId) : null;
+    }
+
+    public Pair<Double, Double> beaconIdToLatLng(String beaconId) {
+        Long cell = toBeaconCell(beaconId);
+        return cell == null ? null : cellToLatLng(cell);
+    }
+
+    public Pair<Double, Double> cellToLatLng(long cell) {
+        return centroidCache.get(cell, key -> {
+            var latLng = h3.cellToLatLng(key);
             return new Pair<>(latLng.lat, latLng.lng);
+        });
+    }
+
+    public String toParentCell(String beaconId, int resolution) {
+        if (beaconId == null) return null;
+        try {
+            return h3.cellToParentAddress(beaconId, resolution);
         } catch (Exception e) {
             return null;
         }
     }
 
+    public ViewportCover coverViewport(Double minLat, Double maxLat, Double minLon, Double maxLon, int finestResolution, int maxCells) {
+        if (minLat == null || maxLat == null || minLon == null || maxLon == null) return null;
+        if (minLon > maxLon) return null;
+
+        double widthKm = (maxLon - minLon) * KM_PER_DEGREE * Math.cos(Math.toRadians((minLat + maxLat) / 2));
+        double heightKm = (maxLat - minLat) * KM_PER_DEGREE;
+        double areaKm2 = Math.max(widthKm, 0.001) * Math.max(heightKm, 0.001);
+
+        for (int resolution : COVER_RESOLUTIONS) {
+            if (resolution > finestResolution) continue;
+
+            double edgeKm = h3.getHexagonEdgeLengthAvg(resolution, LengthUnit.km);
+            double paddedArea = (widthKm + 2 * edgeKm) * (heightKm + 2 * edgeKm);
+            if (paddedArea / h3.getHexagonAreaAvg(resolution, AreaUnit.km2) > maxCells) continue;
+
+            List<String> cells = polyfill(minLat, maxLat, minLon, maxLon, edgeKm, resolution);
+            if (!cells.isEmpty() && cells.size() <= maxCells) {
+                return new ViewportCover(resolution, cells);
+            }
+        }
+        return null;
+    }
+
+    private List<String> polyfill(Double minLat, Double maxLat, Double minLon, Double maxLon, double bufferKm, int resolution) {
+        double latBuffer = bufferKm / KM_PER_DEGREE;
+        double lonBuffer = bufferKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians((minLat + maxLat) / 2)), 0.01));
+
+        double south = Math.max(minLat - latBuffer, -90);
+        double north = Math.min(maxLat + latBuffer, 90);
+        double west = Math.max(minLon - lonBuffer, -180);
+        double east = Math.min(maxLon + lonBuffer, 180);
+
+        List<LatLng> boundary = List.of(
+                new LatLng(south, west),
+                new LatLng(south, east),
+                new LatLng(north, east),
+                new LatLng(north, west)
+        );
+
+        try {
+            return h3.polygonToCellAddresses(boundary, List.of(), resolution);
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+
+    public record ViewportCover(int resolution, List<String> cellIds) {}
+
+    public int resolutionForZoom(Integer zoom) {
+        if (zoom == null || zoom >= 13) return BEACON_RESOLUTION;
+        if (zoom >= 9) return CITY_RESOLUTION;
+        return REGION_RESOLUTION;
+    }
+
     public static class Pair<K, V> {
         public final K lat;
         public final V lng;
@@ -49,10 +160,12 @@ public class GeoUtils {
 
     public List<String> getHexagonNeighbors(String centerBeaconId) {
         if (centerBeaconId == null) return List.of();
-        try {
-            return h3.gridDisk(centerBeaconId, 1);
-        } catch (Exception e) {
-            return List.of(centerBeaconId);
-        }
+
+        Long centerCell = toBeaconCell(centerBeaconId);
+        if (centerCell == null) return List.of(centerBeaconId);
+
+        return neighborCache.get(centerCell, key -> h3.gridDisk(key, 1).stream()
+                .map(h3::h3ToString)
+                .toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.teamloci.loci.global.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "globalpush")
+@RequiredArgsConstructor
+public class GlobalPushEndpoint {
+
+    private final GlobalPushProgress progress;
+
+    @ReadOperation
+    public Map<String, Object> progress() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("running", progress.isRunning());
+        result.put("startedAt", progress.startedAt());
+        result.put("finishedAt", progress.finishedAt());
+        result.put("scannedUsers", progress.scannedUsers());
+        result.put("pushedUsers", progress.pushedUsers());
+        result.put("completedBatches", progress.completedBatches());
+        result.put("batchesInFlight", progress.batchesInFlight());
+        result.put("usersPerSecond", Math.round(progress.usersPerSecond()));
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+package com.teamloci.loci.global.util;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class GlobalPushProgress {
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger batchesInFlight = new AtomicInteger();
+    private final AtomicLong scannedUsers = new AtomicLong();
+    private final AtomicLong pushedUsers = new AtomicLong();
+    private final AtomicLong completedBatches = new AtomicLong();
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    boolean start() {
+        if (!running.compareAndSet(false, true)) return false;
+
+        scannedUsers.set(0);
+        pushedUsers.set(0);
+        completedBatches.set(0);
+        startedAt = Instant.now();
+        finishedAt = null;
+        return true;
+    }
+
+    void finish() {
+        finishedAt = Instant.now();
+        running.set(false);
+    }
+
+    void batchStarted() {
+        batchesInFlight.incrementAndGet();
+    }
+
+    void batchFinished(int scanned, int pushed) {
+        batchesInFlight.decrementAndGet();
+        completedBatches.incrementAndGet();
+        scannedUsers.addAndGet(scanned);
+        pushedUsers.addAndGet(pushed);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public int batchesInFlight() {
+        return batchesInFlight.get();
+    }
+
+    public long scannedUsers() {
+        return scannedUsers.get();
+    }
+
+    public long pushedUsers() {
+        return pushedUsers.get();
+    }
+
+    public long completedBatches() {
+        return completedBatches.get();
+    }
+
+    public Instant startedAt() {
+        return startedAt;
+    }
+
+    public Instant finishedAt() {
+        return finishedAt;
+    }
+
+    public double usersPerSecond() {
+        Instant start = startedAt;
+        if (start == null) return 0;
+
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = Math.max(Duration.between(start, end).toMillis(), 1) / 1000.0;
+        return scannedUsers.get() / seconds;
+    }
+}
@@ -1,118 +1,163 @@
 package com.teamloci.loci.global.util;
 
-import com.teamloci.loci.domain.notification.DailyPushLog;
-import com.teamloci.loci.domain.notification.DailyPushLogRepository;
+import com.teamloci.loci.domain.notification.DailyPushDedupStore;
 import com.teamloci.loci.domain.notification.NotificationMessageProvider;
 import com.teamloci.loci.domain.notification.NotificationService;
 import com.teamloci.loci.domain.notification.NotificationType;
-import com.teamloci.loci.domain.user.User;
+import com.teamloci.loci.domain.user.UserPushTarget;
 import com.teamloci.loci.domain.user.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class LociPushService {
 
     private final UserRepository userRepository;
-    private final DailyPushLogRepository dailyPushLogRepository;
+    private final DailyPushDedupStore dailyPushDedupStore;
     private final NotificationService notificationService;
     private final NotificationMessageProvider messageProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final GlobalPushProgress progress;
+    private final ThreadPoolTaskExecutor globalPushExecutor;
+    private final Counter pushedUsers;
 
     private static final int BATCH_SIZE = 1000;
+    private static final int RANGES_PER_WORKER = 4;
+
+    public LociPushService(UserRepository userRepository,
+                           DailyPushDedupStore dailyPushDedupStore,
+                           NotificationService notificationService,
+                           NotificationMessageProvider messageProvider,
+                           PlatformTransactionManager transactionManager,
+                           GlobalPushProgress progress,
+                           @Qualifier("globalPushExecutor") ThreadPoolTaskExecutor globalPushExecutor,
+                           MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.dailyPushDedupStore = dailyPushDedupStore;
+        this.notificationService = notificationService;
+        this.messageProvider = messageProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.progress = progress;
+        this.globalPushExecutor = globalPushExecutor;
+        this.pushedUsers = Counter.builder("push.global.users").register(meterRegistry);
+
+        Gauge.builder("push.global.batches_in_flight", progress, GlobalPushProgress::batchesInFlight).register(meterRegistry);
+        Gauge.builder("push.global.users_per_second", progress, GlobalPushProgress::usersPerSecond).register(meterRegistry);
+    }
 
     public void executeGlobalPush() {
-        log.info("🔔 [Global Push] 로키 타임 알림 발송 시작!");
+        List<Object[]> idRange = userRepository.findIdRange();
+        Object[] bounds = idRange.isEmpty() ? null : idRange.get(0);
+        if (bounds == null || bounds[0] == null) return;
 
-        int pageNumber = 0;
-        boolean hasNext = true;
-        int totalProcessed = 0;
+        if (!progress.start()) {
+            log.warn("🔔 [Global Push] 이미 발송 작업이 진행 중입니다.");
+            return;
+        }
 
-        while (hasNext) {
-            Pageable pageable = PageRequest.of(pageNumber, BATCH_SIZE);
+        long minId = (Long) bounds[0];
+        long maxId = (Long) bounds[1];
+        int workers = Math.max(1, globalPushExecutor.getMaxPoolSize());
+        int rangeCount = workers * RANGES_PER_WORKER;
+        long rangeSize = Math.max(1, (maxId - minId + rangeCount) / rangeCount);
 
-            Slice<User> userSlice = userRepository.findActiveUsersWithFcmToken(pageable);
-            List<User> candidates = userSlice.getContent();
+        log.info("🔔 [Global Push] 로키 타임 알림 발송 시작! (id {} ~ {}, {}개 구간, 동시 {}개)", minId, maxId, rangeCount, workers);
 
-            List<String> candidateLogIds = new ArrayList<>();
-            for (User user : candidates) {
-                ZoneId userZone = user.getZoneIdOrDefault();
-                LocalDate localToday = LocalDate.now(userZone);
-                candidateLogIds.add(localToday.toString() + "_" + user.getId());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long rangeStart = minId - 1; rangeStart < maxId; rangeStart += rangeSize) {
+                long afterId = rangeStart;
+                long upToId = Math.min(rangeStart + rangeSize, maxId);
+                futures.add(globalPushExecutor.submit(() -> pushRange(afterId, upToId)));
             }
 
-            Set<String> existingLogIds = dailyPushLogRepository.findAllById(candidateLogIds).stream()
-                    .map(DailyPushLog::getId)
-                    .collect(Collectors.toSet());
-
-            List<User> finalTargets = new ArrayList<>();
-            List<DailyPushLog> logsToSave = new ArrayList<>();
-
-            for (User user : candidates) {
-                if (!user.isLociTimePushEnabled()) {
-                    continue;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    log.error("🔔 [Global Push] 구간 발송 실패", e);
                 }
-
-                ZoneId userZone = user.getZoneIdOrDefault();
-                LocalDate localToday = LocalDate.now(userZone);
-                String logId = localToday.toString() + "_" + user.getId();
-
-                if (existingLogIds.contains(logId)) {
-                    continue;
-                }
-
-                finalTargets.add(user);
-                logsToSave.add(new DailyPushLog(logId, user.getId(), localToday));
             }
+        } catch (Exception e) {
+            log.error("🔔 [Global Push] 발송 중 오류 발생", e);
+        } finally {
+            progress.finish();
+        }
 
-            if (!finalTargets.isEmpty()) {
-                Map<String, List<User>> usersByCountry = finalTargets.stream()
-                        .collect(Collectors.groupingBy(
-                                u -> u.getCountryCode() != null ? u.getCountryCode() : NotificationMessageProvider.DEFAULT_LANG
-                        ));
-
-                usersByCountry.forEach((countryCode, users) -> {
-                    var content = messageProvider.getMessage(NotificationType.LOCI_TIME, countryCode);
-                    List<Long> targetIds = users.stream().map(User::getId).toList();
-
-                    notificationService.sendMulticast(
-                            targetIds,
-                            NotificationType.LOCI_TIME,
-                            content.title(),
-                            content.body(),
-                            null,
-                            null
-                    );
-                });
-
-                saveLogsInNewTransaction(logsToSave);
-
-                totalProcessed += finalTargets.size();
+        log.info("🔔 [Global Push] 발송 완료: 총 {}명 ({}명/초)",
+                progress.pushedUsers(), String.format("%.0f", progress.usersPerSecond()));
+    }
+
+    private void pushRange(long afterId, long maxId) {
+        long cursor = afterId;
+        while (true) {
+            List<UserPushTarget> candidates = userRepository.findLociPushTargets(cursor, maxId, PageRequest.of(0, BATCH_SIZE));
+            if (candidates.isEmpty()) return;
+
+            progress.batchStarted();
+            try {
+                int pushed = transactionTemplate.execute(status -> pushBatch(candidates));
+                progress.batchFinished(candidates.size(), pushed);
+                pushedUsers.increment(pushed);
+            } catch (Exception e) {
+                progress.batchFinished(candidates.size(), 0);
+                log.error("🔔 [Global Push] 배치 발송 실패: id {} 이후", cursor, e);
             }
 
-            hasNext = userSlice.hasNext();
-            pageNumber++;
+            if (candidates.size() < BATCH_SIZE) return;
+            cursor = candidates.get(candidates.size() - 1).id();
         }
-
-        log.info("🔔 [Global Push] 발송 완료: 총 {}명", totalProcessed);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveLogsInNewTransaction(List<DailyPushLog> logs) {
-        if (!logs.isEmpty()) {
-            dailyPushLogRepository.saveAll(logs);
-        }
+    private int pushBatch(List<UserPushTarget> candidates) {
+        Map<Long, LocalDate> localDates = new HashMap<>();
+        candidates.forEach(t -> localDates.put(t.id(), LocalDate.now(t.zoneIdOrDefault())));
+
+        Set<Long> claimed = dailyPushDedupStore.claim(NotificationType.LOCI_TIME, localDates);
+        if (claimed.isEmpty()) return 0;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    dailyPushDedupStore.release(NotificationType.LOCI_TIME, claimed, localDates);
+                }
+            }
+        });
+
+        Map<String, List<UserPushTarget>> targetsByCountry = candidates.stream()
+                .filter(t -> claimed.contains(t.id()))
+                .collect(Collectors.groupingBy(
+                        t -> t.countryCode() != null ? t.countryCode() : NotificationMessageProvider.DEFAULT_LANG
+                ));
+
+        targetsByCountry.forEach((countryCode, targets) -> {
+            var content = messageProvider.getMessage(NotificationType.LOCI_TIME, countryCode);
+            notificationService.sendMulticastToTargets(
+                    targets,
+                    NotificationType.LOCI_TIME,
+                    content.title(),
+                    content.body(),
+                    null,
+                    null
+            );
+        });
+        return claimed.size();
     }
-}
\ No newline at end of file
+}
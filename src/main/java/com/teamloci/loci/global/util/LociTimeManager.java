@@ -1,6 +1,8 @@
 package com.teamloci.loci.global.util;
 
+import com.teamloci.loci.domain.notification.DailyPushDedupStore;
 import com.teamloci.loci.domain.notification.DailyPushLogRepository;
+import com.teamloci.loci.domain.notification.NotificationType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -23,7 +25,9 @@ public class LociTimeManager {
 
     private final TaskScheduler taskScheduler;
     private final DailyPushLogRepository dailyPushLogRepository;
+    private final DailyPushDedupStore dailyPushDedupStore;
     private final LociPushService lociPushService;
+    private final BackfillCoordinator backfillCoordinator;
 
     private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
 
@@ -39,7 +43,9 @@ public class LociTimeManager {
     public void onStartup() {
         LocalDate today = LocalDate.now(SEOUL_ZONE);
 
-        boolean alreadySent = dailyPushLogRepository.existsByDate(today);
+        backfillCoordinator.runOnce(DailyPushDedupStore.SEED_BACKFILL_NAME, dailyPushDedupStore::seedFromLogs);
+
+        boolean alreadySent = dailyPushDedupStore.hasAnyOn(NotificationType.LOCI_TIME, today);
         if (alreadySent) {
             log.info("✅ [Recovery] 오늘의 Loci 알림은 이미 발송되었습니다. 스케줄링을 건너뜁니다.");
             return;
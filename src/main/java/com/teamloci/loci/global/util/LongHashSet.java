@@ -0,0 +1,112 @@
+package com.teamloci.loci.global.util;
+
+import java.util.Arrays;
+
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] table;
+    private int size;
+    private boolean containsEmptyKey;
+
+    public LongHashSet() {
+        this(8);
+    }
+
+    public LongHashSet(int expectedSize) {
+        this.table = new long[tableSizeFor(expectedSize)];
+    }
+
+    public static LongHashSet of(long[] values) {
+        LongHashSet set = new LongHashSet(values.length);
+        for (long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsEmptyKey) return false;
+            containsEmptyKey = true;
+            size++;
+            return true;
+        }
+
+        if ((size + 1) > table.length * LOAD_FACTOR) {
+            resize(table.length << 1);
+        }
+
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) return false;
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        size++;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) return containsEmptyKey;
+
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size];
+        int i = 0;
+        if (containsEmptyKey) result[i++] = EMPTY;
+        for (long value : table) {
+            if (value != EMPTY) result[i++] = value;
+        }
+        return result;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldTable = table;
+        table = new long[newCapacity];
+        int mask = newCapacity - 1;
+
+        for (long value : oldTable) {
+            if (value == EMPTY) continue;
+            int index = mix(value) & mask;
+            while (table[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            table[index] = value;
+        }
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        return Math.max(capacity, 8);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,56 @@
+package com.teamloci.loci.global.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public String tryAcquire(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public boolean extend(String key, String token, Duration ttl) {
+        Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+        return extended != null && extended == 1L;
+    }
+
+    public void release(String key, String token) {
+        try {
+            Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+            if (released == null || released == 0L) {
+                log.warn("[Lock] 이미 만료되었거나 다른 인스턴스가 보유한 락입니다: {}", key);
+            }
+        } catch (Exception e) {
+            log.error("[Lock] 락 해제 실패: {}", key, e);
+        }
+    }
+}
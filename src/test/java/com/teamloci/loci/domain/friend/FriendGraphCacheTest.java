@@ -0,0 +1,78 @@
+package com.teamloci.loci.domain.friend;
+
+import com.teamloci.loci.global.cache.CacheGeneration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FriendGraphCacheTest {
+
+    private final FriendshipEdgeService friendshipEdgeService = mock(FriendshipEdgeService.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, long[]> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, long[]> valueOperations = mock(ValueOperations.class);
+    private final CacheGeneration cacheGeneration = mock(CacheGeneration.class);
+    private FriendGraphCache friendGraphCache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(cacheGeneration.current("friends:ids:gen:1")).thenReturn("3");
+        friendGraphCache = new FriendGraphCache(friendshipEdgeService, redisTemplate, cacheGeneration);
+    }
+
+    @Test
+    void cachedIdsAreServedWithoutTheDatabase() {
+        when(valueOperations.get("friends:ids:1:3")).thenReturn(new long[]{2L, 5L});
+
+        assertThat(friendGraphCache.getFriendIds(1L)).containsExactly(2L, 5L);
+        assertThat(friendGraphCache.isFriend(1L, 5L)).isTrue();
+        assertThat(friendGraphCache.isFriend(1L, 4L)).isFalse();
+        verifyNoInteractions(friendshipEdgeService);
+    }
+
+    @Test
+    void missesLoadSortedIdsAndStoreThemUnderTheCurrentGeneration() {
+        when(friendshipEdgeService.findActiveFriendIds(1L)).thenReturn(List.of(9L, 2L, 5L));
+
+        assertThat(friendGraphCache.getFriendIdArray(1L)).containsExactly(2L, 5L, 9L);
+        verify(valueOperations).set(eq("friends:ids:1:3"), eq(new long[]{2L, 5L, 9L}), any(Duration.class));
+    }
+
+    @Test
+    void usersWithoutFriendsGetAnEmptyList() {
+        when(friendshipEdgeService.findActiveFriendIds(1L)).thenReturn(List.of());
+
+        assertThat(friendGraphCache.getFriendIds(1L)).isEmpty();
+        assertThat(friendGraphCache.isFriend(1L, 2L)).isFalse();
+    }
+
+    @Test
+    void redisFailuresFallBackToTheDatabaseWithoutCaching() {
+        when(cacheGeneration.current("friends:ids:gen:1")).thenThrow(new RedisConnectionFailureException("down"));
+        when(friendshipEdgeService.findActiveFriendIds(1L)).thenReturn(List.of(7L));
+
+        assertThat(friendGraphCache.getFriendIds(1L)).containsExactly(7L);
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    void evictionBumpsTheGenerationAndDropsThePreviousKey() {
+        when(cacheGeneration.bump("friends:ids:gen:1")).thenReturn(4L);
+
+        friendGraphCache.evictAfterCommit(1L, 1L);
+
+        verify(cacheGeneration, times(1)).bump("friends:ids:gen:1");
+        verify(redisTemplate).delete("friends:ids:1:3");
+    }
+}
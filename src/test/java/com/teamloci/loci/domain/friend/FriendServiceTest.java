@@ -0,0 +1,125 @@
+package com.teamloci.loci.domain.friend;
+
+import com.teamloci.loci.domain.intimacy.service.IntimacyService;
+import com.teamloci.loci.domain.notification.NotificationService;
+import com.teamloci.loci.domain.post.service.FriendTimelineStore;
+import com.teamloci.loci.domain.user.User;
+import com.teamloci.loci.domain.user.UserCardLoader;
+import com.teamloci.loci.domain.user.UserRepository;
+import com.teamloci.loci.global.error.CustomException;
+import com.teamloci.loci.global.error.ErrorCode;
+import com.teamloci.loci.global.util.AesUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.teamloci.loci.domain.friend.FriendshipEdgeServiceTest.friendship;
+import static com.teamloci.loci.domain.friend.FriendshipEdgeServiceTest.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FriendServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final FriendshipRepository friendshipRepository = mock(FriendshipRepository.class);
+    private final FriendshipEdgeService friendshipEdgeService = mock(FriendshipEdgeService.class);
+    private final UserCardLoader userCardLoader = mock(UserCardLoader.class);
+    private final SocialGraph socialGraph = mock(SocialGraph.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private FriendService friendService;
+
+    private final User me = user(1L);
+    private final User target = user(2L);
+
+    @BeforeEach
+    void setUp() {
+        friendService = new FriendService(userRepository, friendshipRepository, friendshipEdgeService,
+                mock(NotificationService.class), mock(UserContactRepository.class), mock(AesUtil.class),
+                mock(IntimacyService.class), mock(FriendTimelineStore.class), mock(FriendGraphCache.class),
+                userCardLoader, socialGraph, eventPublisher);
+
+        when(userRepository.findByIdWithLock(1L)).thenReturn(Optional.of(me));
+        when(userRepository.findByIdWithLock(2L)).thenReturn(Optional.of(target));
+        when(socialGraph.relationStatus(anyLong(), anyLong())).thenReturn("NONE");
+    }
+
+    @Test
+    void acceptingAMissingRequestFails() {
+        when(friendshipEdgeService.findFriendshipBetween(1L, 2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> friendService.acceptFriendRequest(1L, 2L))
+                .isInstanceOf(CustomException.class)
+                .extracting("code").isEqualTo(ErrorCode.FRIEND_REQUEST_NOT_FOUND);
+        verify(userRepository, never()).increaseFriendCount(anyLong());
+    }
+
+    @Test
+    void deletingAMissingFriendshipFails() {
+        when(friendshipEdgeService.findFriendshipBetween(1L, 2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> friendService.deleteFriendship(1L, 2L))
+                .isInstanceOf(CustomException.class)
+                .extracting("code").isEqualTo(ErrorCode.FRIEND_REQUEST_NOT_FOUND);
+        verify(friendshipRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void requestingAUserWhoAlreadyAskedAcceptsTheExistingRow() {
+        Friendship reverse = friendship(target, me, FriendshipStatus.PENDING);
+        when(socialGraph.relationStatus(1L, 2L)).thenReturn("PENDING_RECEIVED");
+        when(friendshipEdgeService.findFriendshipBetween(1L, 2L)).thenReturn(Optional.of(reverse));
+
+        friendService.sendFriendRequest(1L, 2L);
+
+        assertThat(reverse.getStatus()).isEqualTo(FriendshipStatus.FRIENDSHIP);
+        verify(friendshipRepository, never()).save(any());
+        ArgumentCaptor<FriendshipChangedEvent> event = ArgumentCaptor.forClass(FriendshipChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getRequesterId()).isEqualTo(2L);
+        assertThat(event.getValue().getReceiverId()).isEqualTo(1L);
+        assertThat(event.getValue().getStatus()).isEqualTo(FriendshipStatus.FRIENDSHIP);
+        verify(userRepository).increaseFriendCount(1L);
+        verify(userRepository).increaseFriendCount(2L);
+    }
+
+    @Test
+    void friendLimitIsCheckedAgainstTheDatabaseWhileBothUsersAreLocked() {
+        when(friendshipEdgeService.findFriendshipBetween(1L, 2L))
+                .thenReturn(Optional.of(friendship(target, me, FriendshipStatus.PENDING)));
+        when(socialGraph.friendCount(anyLong())).thenReturn(0L);
+        when(friendshipEdgeService.countFriends(2L)).thenReturn(20L);
+
+        assertThatThrownBy(() -> friendService.acceptFriendRequest(1L, 2L))
+                .isInstanceOf(CustomException.class)
+                .extracting("code").isEqualTo(ErrorCode.TARGET_FRIEND_LIMIT_EXCEEDED);
+        verify(userRepository).findByIdWithLock(2L);
+        verify(userRepository, never()).increaseFriendCount(anyLong());
+        verify(socialGraph, never()).friendCount(anyLong());
+    }
+
+    @Test
+    void repeatingASentRequestFails() {
+        when(friendshipEdgeService.findFriendshipBetween(1L, 2L))
+                .thenReturn(Optional.of(friendship(me, target, FriendshipStatus.PENDING)));
+
+        assertThatThrownBy(() -> friendService.sendFriendRequest(1L, 2L))
+                .isInstanceOf(CustomException.class)
+                .extracting("code").isEqualTo(ErrorCode.FRIEND_REQUEST_ALREADY_EXISTS);
+        verify(friendshipRepository, never()).save(any());
+    }
+
+    @Test
+    void emptyFriendListSkipsCardLoading() {
+        when(friendshipEdgeService.findFriends(1L)).thenReturn(List.of());
+
+        assertThat(friendService.getMyFriends(1L)).isEmpty();
+        verifyNoInteractions(userCardLoader);
+    }
+}
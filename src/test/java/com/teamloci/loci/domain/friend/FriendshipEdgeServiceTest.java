@@ -0,0 +1,150 @@
+package com.teamloci.loci.domain.friend;
+
+import com.teamloci.loci.domain.user.User;
+import com.teamloci.loci.global.util.BackfillCoordinator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FriendshipEdgeServiceTest {
+
+    private final FriendshipRepository friendshipRepository = mock(FriendshipRepository.class);
+    private final FriendshipEdgeRepository friendshipEdgeRepository = mock(FriendshipEdgeRepository.class);
+    private final BackfillCoordinator backfillCoordinator = mock(BackfillCoordinator.class);
+    private FriendshipEdgeService friendshipEdgeService;
+
+    @BeforeEach
+    void setUp() {
+        friendshipEdgeService = new FriendshipEdgeService(friendshipRepository, friendshipEdgeRepository,
+                mock(PlatformTransactionManager.class), backfillCoordinator);
+    }
+
+    @Test
+    void usesRequesterReceiverPredicatesUntilTheBackfillCompletes() {
+        Friendship reverse = friendship(user(2L), user(1L), FriendshipStatus.PENDING);
+        when(friendshipRepository.findFriendshipByParticipants(1L, 2L)).thenReturn(Optional.of(reverse));
+        when(friendshipRepository.countFriends(1L)).thenReturn(4L);
+        when(friendshipRepository.findActiveFriendIdsByUserId(1L)).thenReturn(List.of(3L));
+
+        assertThat(friendshipEdgeService.findFriendshipBetween(1L, 2L)).contains(reverse);
+        assertThat(friendshipEdgeService.countFriends(1L)).isEqualTo(4L);
+        assertThat(friendshipEdgeService.findActiveFriendIds(1L)).containsExactly(3L);
+
+        verify(friendshipRepository, never()).findByCanonicalPair(anyLong(), anyLong());
+        verifyNoInteractions(friendshipEdgeRepository);
+    }
+
+    @Test
+    void usesTheCanonicalPairOnceTheBackfillCompletes() {
+        when(backfillCoordinator.isComplete(FriendshipEdgeService.BACKFILL_NAME)).thenReturn(true);
+        Friendship friendship = friendship(user(1L), user(2L), FriendshipStatus.FRIENDSHIP);
+        when(friendshipRepository.findFriendshipBetween(2L, 1L)).thenReturn(Optional.of(friendship));
+        when(friendshipEdgeRepository.countFriends(1L)).thenReturn(1L);
+
+        assertThat(friendshipEdgeService.findFriendshipBetween(2L, 1L)).contains(friendship);
+        assertThat(friendshipEdgeService.countFriends(1L)).isEqualTo(1L);
+
+        verify(friendshipRepository, never()).findFriendshipByParticipants(anyLong(), anyLong());
+        verify(friendshipRepository, never()).countFriends(anyLong());
+    }
+
+    @Test
+    void legacyRelationStatusesResolveBothDirections() {
+        User me = user(1L);
+        when(friendshipRepository.findAllRelationsBetween(1L, List.of(2L, 3L, 4L))).thenReturn(List.of(
+                friendship(me, user(2L), FriendshipStatus.FRIENDSHIP),
+                friendship(user(3L), me, FriendshipStatus.PENDING)));
+
+        assertThat(friendshipEdgeService.relationStatuses(1L, List.of(2L, 3L, 4L)))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(2L, "FRIEND", 3L, "PENDING_RECEIVED", 4L, "NONE"));
+    }
+
+    @Test
+    void legacyFriendListReturnsTheOtherSideOfEachFriendship() {
+        User me = user(1L);
+        User sent = user(2L);
+        User received = user(3L);
+        when(friendshipRepository.findAllFriendsWithUsers(1L)).thenReturn(List.of(
+                friendship(me, sent, FriendshipStatus.FRIENDSHIP),
+                friendship(received, me, FriendshipStatus.FRIENDSHIP)));
+
+        assertThat(friendshipEdgeService.findFriends(1L)).containsExactly(sent, received);
+    }
+
+    @Test
+    void emptyInputsAndMissingRowsReturnEmptyResults() {
+        assertThat(friendshipEdgeService.relationStatuses(1L, List.of())).isEmpty();
+        assertThat(friendshipEdgeService.findFriends(1L)).isEmpty();
+        assertThat(friendshipEdgeService.countFriends(1L)).isZero();
+        assertThat(friendshipEdgeService.findFriendshipBetween(1L, 2L)).isEmpty();
+
+        when(backfillCoordinator.isComplete(FriendshipEdgeService.BACKFILL_NAME)).thenReturn(true);
+        when(friendshipRepository.findFriendshipBetween(1L, 2L)).thenReturn(Optional.empty());
+
+        assertThat(friendshipEdgeService.relationStatuses(1L, List.of())).isEmpty();
+        assertThat(friendshipEdgeService.findFriends(1L)).isEmpty();
+        assertThat(friendshipEdgeService.findActiveFriendIds(1L)).isEmpty();
+        assertThat(friendshipEdgeService.countFriends(1L)).isZero();
+        assertThat(friendshipEdgeService.findFriendshipBetween(1L, 2L)).isEmpty();
+        verify(friendshipRepository, never()).findAllRelationsBetween(anyLong(), anyList());
+        verify(friendshipEdgeRepository, never()).findByUserIdAndFriendIdIn(anyLong(), anyList());
+    }
+
+    @Test
+    void failedBackfillChunksAreNotMarkedComplete() {
+        ReflectionTestUtils.setField(friendshipEdgeService, "backfillOnStartup", true);
+        when(friendshipRepository.findMaxId()).thenReturn(1500L);
+        when(friendshipRepository.backfillCanonicalPairs(0L, 1000L)).thenReturn(10);
+        when(friendshipRepository.backfillCanonicalPairs(1000L, 2000L)).thenThrow(new IllegalStateException("lock wait timeout"));
+
+        friendshipEdgeService.backfillOnStartup();
+
+        ArgumentCaptor<Runnable> backfill = ArgumentCaptor.forClass(Runnable.class);
+        verify(backfillCoordinator).runOnce(eq(FriendshipEdgeService.BACKFILL_NAME), backfill.capture());
+        assertThatThrownBy(() -> backfill.getValue().run()).isInstanceOf(IllegalStateException.class);
+        verify(friendshipEdgeRepository).backfillInRange(0L, 1000L);
+    }
+
+    @Test
+    void reversedDuplicatesKeepTheFriendshipRowOrElseTheOldestBeforeTheBackfill() {
+        when(friendshipRepository.findMaxId()).thenReturn(20L);
+        when(friendshipRepository.findReversedDuplicates()).thenReturn(List.of(
+                new Object[]{10L, 1L, 2L, "PENDING"},
+                new Object[]{11L, 3L, 4L, "PENDING"},
+                new Object[]{12L, 2L, 1L, "FRIENDSHIP"},
+                new Object[]{13L, 4L, 3L, "PENDING"}));
+
+        assertThat(friendshipEdgeService.backfill()).isZero();
+
+        var order = inOrder(friendshipRepository, friendshipEdgeRepository);
+        order.verify(friendshipRepository).deleteAllByIdInBatch(List.of(10L));
+        order.verify(friendshipRepository).deleteAllByIdInBatch(List.of(13L));
+        order.verify(friendshipRepository).backfillCanonicalPairs(0L, 1000L);
+        order.verify(friendshipEdgeRepository).backfillInRange(0L, 1000L);
+        verify(friendshipEdgeRepository).deleteEdge(1L, 2L);
+        verify(friendshipEdgeRepository).deleteEdge(2L, 1L);
+        verify(friendshipEdgeRepository).deleteEdge(3L, 4L);
+        verify(friendshipEdgeRepository).deleteEdge(4L, 3L);
+    }
+
+    static User user(Long id) {
+        User user = User.builder().handle("user" + id).nickname("user" + id).phoneSearchHash("hash" + id).build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    static Friendship friendship(User requester, User receiver, FriendshipStatus status) {
+        return Friendship.builder().requester(requester).receiver(receiver).status(status).build();
+    }
+}
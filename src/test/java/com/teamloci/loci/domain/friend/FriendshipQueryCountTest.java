@@ -0,0 +1,172 @@
+package com.teamloci.loci.domain.friend;
+
+import com.google.cloud.firestore.Firestore;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.teamloci.loci.domain.user.User;
+import com.teamloci.loci.domain.user.UserRepository;
+import com.teamloci.loci.global.util.BackfillCoordinator;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 친구 관계 조회가 조회당 한 번의 쿼리로 끝나는지, 백필 이후에는 OR 조건 없이 처리되는지 확인한다.
+ * 시작 시 비동기 작업의 쿼리가 섞이지 않도록 테스트 스레드에서 실행된 SQL만 센다.
+ */
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.teamloci.loci.domain.friend.FriendshipQueryCountTest$SqlCapture")
+class FriendshipQueryCountTest {
+
+    public static class SqlCapture implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.get().add(sql);
+            return sql;
+        }
+
+        static List<String> statements() {
+            return STATEMENTS.get();
+        }
+
+        static void clear() {
+            STATEMENTS.get().clear();
+        }
+    }
+
+    @MockBean
+    private S3Client s3Client;
+
+    @MockBean
+    private Firestore firestore;
+
+    @MockBean
+    private FirebaseAuth firebaseAuth;
+
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockBean
+    private S3Presigner s3Presigner;
+
+    @MockBean
+    private BackfillCoordinator backfillCoordinator;
+
+    @Autowired
+    private FriendshipEdgeService friendshipEdgeService;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User me;
+    private User sentTo;
+    private User receivedFrom;
+    private User pending;
+    private User stranger;
+
+    @BeforeEach
+    void setUp() {
+        me = saveUser(1);
+        sentTo = saveUser(2);
+        receivedFrom = saveUser(3);
+        pending = saveUser(4);
+        stranger = saveUser(5);
+
+        saveFriendship(me, sentTo, FriendshipStatus.FRIENDSHIP);
+        saveFriendship(receivedFrom, me, FriendshipStatus.FRIENDSHIP);
+        saveFriendship(pending, me, FriendshipStatus.PENDING);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlCapture.clear();
+    }
+
+    @Test
+    void canonicalReadsUseOneQueryEachWithoutOrPredicates() {
+        when(backfillCoordinator.isComplete(FriendshipEdgeService.BACKFILL_NAME)).thenReturn(true);
+
+        assertReads();
+
+        assertThat(SqlCapture.statements())
+                .hasSize(5)
+                .noneMatch(sql -> sql.toLowerCase().contains(" or "));
+    }
+
+    @Test
+    void legacyReadsBeforeTheBackfillUseOneQueryEach() {
+        when(backfillCoordinator.isComplete(FriendshipEdgeService.BACKFILL_NAME)).thenReturn(false);
+
+        assertReads();
+
+        assertThat(SqlCapture.statements()).hasSize(5);
+    }
+
+    private void assertReads() {
+        Friendship friendship = friendshipEdgeService.findFriendshipBetween(me.getId(), receivedFrom.getId()).orElseThrow();
+        assertThat(friendship.getRequester().getId()).isEqualTo(receivedFrom.getId());
+
+        assertThat(friendshipEdgeService.relationStatuses(me.getId(),
+                List.of(sentTo.getId(), receivedFrom.getId(), pending.getId(), stranger.getId())))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(
+                        sentTo.getId(), "FRIEND",
+                        receivedFrom.getId(), "FRIEND",
+                        pending.getId(), "PENDING_RECEIVED",
+                        stranger.getId(), "NONE"));
+
+        assertThat(friendshipEdgeService.findFriends(me.getId()))
+                .extracting(User::getId)
+                .containsExactlyInAnyOrder(sentTo.getId(), receivedFrom.getId());
+        assertThat(friendshipEdgeService.findActiveFriendIds(me.getId()))
+                .containsExactlyInAnyOrder(sentTo.getId(), receivedFrom.getId());
+        assertThat(friendshipEdgeService.countFriends(me.getId())).isEqualTo(2L);
+    }
+
+    private User saveUser(int seq) {
+        User user = User.builder()
+                .handle("query_count_" + seq)
+                .nickname("user" + seq)
+                .phoneSearchHash("query-count-hash-" + seq)
+                .build();
+        user.updateBluetoothToken("QC" + String.format("%06d", seq));
+        return userRepository.save(user);
+    }
+
+    private void saveFriendship(User requester, User receiver, FriendshipStatus status) {
+        friendshipRepository.save(Friendship.builder().requester(requester).receiver(receiver).status(status).build());
+
+        boolean friends = status == FriendshipStatus.FRIENDSHIP;
+        jdbcTemplate.batchUpdate("INSERT INTO friendship_edges (user_id, friend_id, status) VALUES (?, ?, ?)", Arrays.asList(
+                new Object[]{requester.getId(), receiver.getId(), friends ? "FRIEND" : "PENDING_SENT"},
+                new Object[]{receiver.getId(), requester.getId(), friends ? "FRIEND" : "PENDING_RECEIVED"}));
+    }
+}
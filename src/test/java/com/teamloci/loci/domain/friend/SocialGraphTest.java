@@ -0,0 +1,139 @@
+package com.teamloci.loci.domain.friend;
+
+import com.teamloci.loci.global.cache.CacheInvalidationPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SocialGraphTest {
+
+    private static final String NODE_ID = "node-a";
+
+    private final FriendshipRepository friendshipRepository = mock(FriendshipRepository.class);
+    private final FriendshipEdgeService friendshipEdgeService = mock(FriendshipEdgeService.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private SocialGraph socialGraph;
+
+    @BeforeEach
+    void setUp() {
+        socialGraph = new SocialGraph(friendshipRepository, friendshipEdgeService, redisTemplate,
+                mock(RedisMessageListenerContainer.class), new CacheInvalidationPublisher(redisTemplate, NODE_ID));
+    }
+
+    @Test
+    void usesTheDatabaseUntilTheGraphIsLoaded() {
+        when(friendshipEdgeService.countFriends(1L)).thenReturn(3L);
+        when(friendshipEdgeService.relationStatuses(1L, List.of(2L))).thenReturn(Map.of(2L, "PENDING_SENT"));
+
+        assertThat(socialGraph.friendCount(1L)).isEqualTo(3L);
+        assertThat(socialGraph.relationStatuses(1L, List.of(2L))).containsEntry(2L, "PENDING_SENT");
+        verify(friendshipEdgeService).countFriends(1L);
+    }
+
+    @Test
+    void reloadBuildsFriendAndPendingRelations() {
+        loadEdges(
+                edge(1L, 1L, 2L, FriendshipStatus.FRIENDSHIP),
+                edge(2L, 1L, 3L, FriendshipStatus.PENDING));
+
+        assertThat(socialGraph.isFriend(1L, 2L)).isTrue();
+        assertThat(socialGraph.isFriend(2L, 1L)).isTrue();
+        assertThat(socialGraph.relationStatus(1L, 3L)).isEqualTo("PENDING_SENT");
+        assertThat(socialGraph.relationStatus(3L, 1L)).isEqualTo("PENDING_RECEIVED");
+        assertThat(socialGraph.relationStatus(2L, 3L)).isEqualTo("NONE");
+        assertThat(socialGraph.friendCount(1L)).isEqualTo(1L);
+        assertThat(socialGraph.relationStatuses(1L, List.of(2L, 3L, 4L)))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(2L, "FRIEND", 3L, "PENDING_SENT", 4L, "NONE"));
+        verifyNoInteractions(friendshipEdgeService);
+    }
+
+    @Test
+    void localChangesAreAppliedAndPublished() {
+        loadEdges(edge(1L, 1L, 3L, FriendshipStatus.PENDING));
+
+        socialGraph.handleFriendshipChanged(new FriendshipChangedEvent(1L, 3L, FriendshipStatus.FRIENDSHIP));
+        assertThat(socialGraph.isFriend(3L, 1L)).isTrue();
+        verify(redisTemplate).convertAndSend(SocialGraph.CHANNEL, NODE_ID + "|P|1|3");
+
+        socialGraph.handleFriendshipChanged(new FriendshipChangedEvent(1L, 3L, null));
+        assertThat(socialGraph.relationStatus(1L, 3L)).isEqualTo("NONE");
+        assertThat(socialGraph.friendCount(3L)).isZero();
+    }
+
+    @Test
+    void remoteChangesReloadThePairFromTheDatabase() {
+        loadEdges();
+        when(friendshipEdgeService.findEdgeBetween(5L, 6L))
+                .thenReturn(List.<Object[]>of(new Object[]{6L, 5L, FriendshipStatus.PENDING}));
+
+        socialGraph.onMessage(message("node-b|P|5|6"), null);
+
+        assertThat(socialGraph.relationStatus(6L, 5L)).isEqualTo("PENDING_SENT");
+        assertThat(socialGraph.relationStatus(5L, 6L)).isEqualTo("PENDING_RECEIVED");
+
+        when(friendshipEdgeService.findEdgeBetween(5L, 6L)).thenReturn(List.of());
+        socialGraph.onMessage(message("node-b|P|5|6"), null);
+
+        assertThat(socialGraph.relationStatus(5L, 6L)).isEqualTo("NONE");
+    }
+
+    @Test
+    void ownMessagesAreIgnored() {
+        loadEdges();
+
+        socialGraph.onMessage(message(NODE_ID + "|P|5|6"), null);
+
+        verify(friendshipEdgeService, never()).findEdgeBetween(anyLong(), anyLong());
+    }
+
+    @Test
+    void removingAUserDropsItFromEveryPartner() {
+        loadEdges(
+                edge(1L, 1L, 2L, FriendshipStatus.FRIENDSHIP),
+                edge(2L, 3L, 1L, FriendshipStatus.PENDING));
+
+        socialGraph.removeUserAfterCommit(1L);
+
+        assertThat(socialGraph.isFriend(2L, 1L)).isFalse();
+        assertThat(socialGraph.relationStatus(3L, 1L)).isEqualTo("NONE");
+        assertThat(socialGraph.friendCount(2L)).isZero();
+        verify(redisTemplate).convertAndSend(SocialGraph.CHANNEL, NODE_ID + "|U|1");
+    }
+
+    @Test
+    void reloadReplacesStateWithTheDatabaseSnapshot() {
+        loadEdges(edge(1L, 1L, 2L, FriendshipStatus.FRIENDSHIP));
+        loadEdges(edge(2L, 1L, 3L, FriendshipStatus.FRIENDSHIP));
+
+        assertThat(socialGraph.isFriend(1L, 2L)).isFalse();
+        assertThat(socialGraph.isFriend(1L, 3L)).isTrue();
+    }
+
+    private void loadEdges(Object[]... edges) {
+        List<Object[]> rows = new ArrayList<>(List.of(edges));
+        when(friendshipRepository.findEdgesAfter(anyLong(), any(Pageable.class)))
+                .thenReturn(rows)
+                .thenReturn(List.of());
+        socialGraph.reload();
+    }
+
+    private static Object[] edge(Long id, Long requesterId, Long receiverId, FriendshipStatus status) {
+        return new Object[]{id, requesterId, receiverId, status};
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(SocialGraph.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+package com.teamloci.loci.domain.notification;
+
+import com.teamloci.loci.domain.notification.push.PushGateway;
+import com.teamloci.loci.domain.notification.push.PushMessage;
+import com.teamloci.loci.domain.notification.push.PushPayload;
+import com.teamloci.loci.domain.notification.push.PushResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PushDispatcherTest {
+
+    private final PushGateway pushGateway = mock(PushGateway.class);
+    private final PushDispatcher pushDispatcher = new PushDispatcher(pushGateway);
+
+    @Test
+    void rowsWithTheSameNotificationAreMulticast() {
+        when(pushGateway.sendMulticast(any(), anyList())).thenAnswer(invocation -> {
+            List<String> tokens = invocation.getArgument(1);
+            return tokens.stream().map(t -> t.startsWith("bad") ? PushResult.invalidToken("UNREGISTERED") : PushResult.ok()).toList();
+        });
+
+        PushOutbox phone = outbox(1L, "token-a", "친구 요청", 10L);
+        PushOutbox tablet = outbox(2L, "bad-token", "친구 요청", 10L);
+
+        Map<Long, PushResult> results = pushDispatcher.send(List.of(phone, tablet));
+
+        verify(pushGateway).sendMulticast(any(PushPayload.class), eq(List.of("token-a", "bad-token")));
+        verify(pushGateway, never()).sendEach(anyList());
+        assertThat(results.get(1L).success()).isTrue();
+        assertThat(results.get(2L).invalidToken()).isTrue();
+    }
+
+    @Test
+    void distinctPayloadsAreSentTogetherThroughSendEach() {
+        when(pushGateway.sendEach(anyList())).thenAnswer(invocation -> {
+            List<PushMessage> messages = invocation.getArgument(0);
+            return messages.stream().map(m -> m.token().equals("token-b") ? PushResult.retryableFailure("UNAVAILABLE") : PushResult.ok()).toList();
+        });
+
+        Map<Long, PushResult> results = pushDispatcher.send(List.of(
+                outbox(1L, "token-a", "첫 번째", 10L),
+                outbox(2L, "token-b", "두 번째", 11L)));
+
+        verify(pushGateway, times(1)).sendEach(anyList());
+        verify(pushGateway, never()).sendMulticast(any(), anyList());
+        assertThat(results.get(1L).success()).isTrue();
+        assertThat(results.get(2L).retryable()).isTrue();
+    }
+
+    @Test
+    void largeGroupsAreSplitIntoGatewaySizedMulticasts() {
+        when(pushGateway.sendMulticast(any(), anyList())).thenAnswer(invocation ->
+                ((List<?>) invocation.getArgument(1)).stream().map(t -> PushResult.ok()).toList());
+
+        List<PushOutbox> pushes = new ArrayList<>();
+        for (long id = 1; id <= PushGateway.MAX_BATCH_SIZE + 1; id++) {
+            pushes.add(outbox(id, "token-" + id, "로키 타임", null));
+        }
+
+        Map<Long, PushResult> results = pushDispatcher.send(pushes);
+
+        verify(pushGateway, times(2)).sendMulticast(any(), anyList());
+        assertThat(results).hasSize(PushGateway.MAX_BATCH_SIZE + 1);
+    }
+
+    private PushOutbox outbox(Long id, String token, String body, Long notificationId) {
+        PushOutbox push = PushOutbox.builder()
+                .receiverId(id)
+                .token(token)
+                .type(NotificationType.values()[0])
+                .title("Loci")
+                .body(body)
+                .notificationId(notificationId)
+                .build();
+        ReflectionTestUtils.setField(push, "id", id);
+        return push;
+    }
+}
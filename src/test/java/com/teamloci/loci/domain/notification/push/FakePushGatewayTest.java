@@ -0,0 +1,51 @@
+package com.teamloci.loci.domain.notification.push;
+
+import com.teamloci.loci.domain.notification.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FakePushGatewayTest {
+
+    private static final PushPayload PAYLOAD = new PushPayload(NotificationType.values()[0], "Loci", "로키 타임", null, null, null);
+
+    @Test
+    void invalidTokenPrefixIsReportedAsInvalidToken() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FakePushGateway gateway = new FakePushGateway(0, 0, 0.0, 0.0, registry);
+
+        List<PushResult> results = gateway.sendMulticast(PAYLOAD,
+                List.of("fake-1", FakePushGateway.INVALID_TOKEN_PREFIX + "2", "fake-3"));
+
+        assertThat(results).extracting(PushResult::success).containsExactly(true, false, true);
+        assertThat(results.get(1).invalidToken()).isTrue();
+        assertThat(registry.get("push.fake.delivered").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void failureRateOfOneMakesEveryMessageRetryable() {
+        FakePushGateway gateway = new FakePushGateway(0, 0, 1.0, 0.0, new SimpleMeterRegistry());
+
+        List<PushResult> results = gateway.sendEach(List.of(
+                new PushMessage("fake-1", PAYLOAD), new PushMessage("fake-2", PAYLOAD)));
+
+        assertThat(results).allMatch(r -> !r.success() && r.retryable());
+    }
+
+    @Test
+    void latencyGrowsWithBatchSize() {
+        FakePushGateway gateway = new FakePushGateway(5, 100, 0.0, 0.0, new SimpleMeterRegistry());
+        List<String> tokens = java.util.stream.IntStream.range(0, PushGateway.MAX_BATCH_SIZE)
+                .mapToObj(i -> "fake-" + i).toList();
+
+        long startedAt = System.nanoTime();
+        List<PushResult> results = gateway.sendMulticast(PAYLOAD, tokens);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(results).hasSize(PushGateway.MAX_BATCH_SIZE);
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(5 + PushGateway.MAX_BATCH_SIZE * 100L / 1000);
+    }
+}
@@ -0,0 +1,217 @@
+package com.teamloci.loci.domain.stat;
+
+import com.teamloci.loci.domain.stat.repository.UserBeaconStatsRepository;
+import com.teamloci.loci.domain.stat.service.BeaconPresenceIndex;
+import com.teamloci.loci.global.util.GeoUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * checkFriendFootprints 의 조회 경로별 지연 시간을 비교한다.
+ * posts 직접 조회(기존), user_beacon_stats 조회(인덱스 미적재 시), Redis 방문자 인덱스(적재 후).
+ * Redis 경로는 localhost:6379 에 접속할 수 있을 때만 측정한다.
+ * 실행: ./gradlew test --tests '*FootprintQueryBenchmark' -Dbenchmark=true -Dbenchmark.posts=10000000
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FootprintQueryBenchmark {
+
+    private static final int POSTS = Integer.getInteger("benchmark.posts", 10_000_000);
+    private static final int USERS = 100_000;
+    private static final int BEACONS = 20_000;
+    private static final int FRIENDS = 300;
+    private static final int ITERATIONS = 50;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String LEGACY_EXISTS = """
+            SELECT 1 FROM posts WHERE beacon_id IN (:beaconIds) AND user_id = :userId LIMIT 1""";
+    private static final String LEGACY_FRIENDS = """
+            SELECT user_id FROM posts
+            WHERE beacon_id IN (:beaconIds) AND user_id IN (:friendIds) AND status = 'ACTIVE'
+            GROUP BY user_id ORDER BY MAX(created_at) DESC LIMIT :limit""";
+    private static final String LEGACY_COUNT = """
+            SELECT COUNT(DISTINCT user_id) FROM posts
+            WHERE beacon_id IN (:beaconIds) AND user_id IN (:friendIds) AND status = 'ACTIVE'""";
+    private static final String PRESENCE = """
+            SELECT beacon_id, user_id, latest_posted_at FROM user_beacon_stats WHERE beacon_id IN (:beaconIds)""";
+
+    private final GeoUtils geoUtils = new GeoUtils();
+    private NamedParameterJdbcTemplate jdbc;
+    private List<String> beaconPool;
+    private List<Long> friendIds;
+    private LettuceConnectionFactory redisConnectionFactory;
+
+    @BeforeAll
+    void setUp() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(
+                new org.h2.Driver(), "jdbc:h2:./build/footprint-bench;MODE=MySQL", "sa", "");
+        jdbc = new NamedParameterJdbcTemplate(dataSource);
+        JdbcTemplate plain = jdbc.getJdbcTemplate();
+        plain.execute("DROP ALL OBJECTS");
+
+        plain.execute("""
+                CREATE TABLE posts (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    user_id BIGINT NOT NULL,
+                    beacon_id VARCHAR(64) NOT NULL,
+                    status VARCHAR(20) NOT NULL,
+                    thumbnail_url VARCHAR(255),
+                    created_at TIMESTAMP NOT NULL
+                )""");
+
+        Random random = new Random(11);
+        Set<String> beacons = new LinkedHashSet<>();
+        while (beacons.size() < BEACONS) {
+            beacons.add(geoUtils.latLngToBeaconId(37.45 + random.nextDouble() * 0.2, 126.85 + random.nextDouble() * 0.25));
+        }
+        beaconPool = new ArrayList<>(beacons);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < POSTS; i++) {
+            batch.add(new Object[]{
+                    (long) random.nextInt(USERS) + 1,
+                    beaconPool.get(random.nextInt(BEACONS)),
+                    random.nextInt(10) < 7 ? "ACTIVE" : "ARCHIVED",
+                    "thumb-" + i,
+                    Timestamp.valueOf(now.minusMinutes(random.nextInt(1_000_000)))
+            });
+            if (batch.size() == 10_000) {
+                insertPosts(plain, batch);
+            }
+        }
+        insertPosts(plain, batch);
+
+        plain.execute("CREATE INDEX idx_beacon_id ON posts (beacon_id)");
+        plain.execute("CREATE INDEX idx_post_feed ON posts (user_id, status, id DESC)");
+
+        plain.execute("""
+                CREATE TABLE user_beacon_stats AS
+                SELECT user_id, beacon_id, COUNT(*) AS post_count, MAX(created_at) AS latest_posted_at
+                FROM posts WHERE status = 'ACTIVE'
+                GROUP BY user_id, beacon_id""");
+        plain.execute("CREATE INDEX idx_beacon_user_posted_at ON user_beacon_stats (beacon_id, user_id, latest_posted_at)");
+
+        friendIds = new ArrayList<>();
+        for (long id = 1; id <= FRIENDS; id++) {
+            friendIds.add(id * (USERS / FRIENDS));
+        }
+
+        try {
+            redisConnectionFactory = new LettuceConnectionFactory("localhost", 6379);
+            redisConnectionFactory.afterPropertiesSet();
+            redisConnectionFactory.start();
+            try (var connection = redisConnectionFactory.getConnection()) {
+                connection.ping();
+            }
+        } catch (Exception e) {
+            System.out.println("[FootprintBenchmark] Redis 에 접속할 수 없어 인덱스 경로는 측정하지 않습니다.");
+            redisConnectionFactory = null;
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbc.getJdbcTemplate().execute("DROP ALL OBJECTS");
+        if (redisConnectionFactory != null) {
+            redisConnectionFactory.destroy();
+        }
+    }
+
+    @Test
+    void compareFootprintPaths() {
+        Long myUserId = friendIds.get(0) + 1;
+        String center = beaconPool.get(BEACONS / 2);
+        List<String> beaconIds = geoUtils.getHexagonNeighbors(center);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("beaconIds", beaconIds)
+                .addValue("friendIds", friendIds)
+                .addValue("userId", myUserId)
+                .addValue("limit", PAGE_SIZE);
+
+        double legacyMs = measure(() -> {
+            jdbc.queryForList(LEGACY_EXISTS, params);
+            jdbc.queryForList(LEGACY_FRIENDS, params, Long.class);
+            return jdbc.queryForObject(LEGACY_COUNT, params, Long.class);
+        });
+
+        double statsMs = measure(() -> jdbc.queryForList(PRESENCE, params));
+
+        Set<Long> friendSet = new HashSet<>(friendIds);
+        long expectedFriends = jdbc.queryForObject(LEGACY_COUNT, params, Long.class);
+        long statsFriends = jdbc.queryForList(PRESENCE, params).stream()
+                .map(row -> ((Number) row.get("user_id")).longValue())
+                .filter(friendSet::contains)
+                .distinct()
+                .count();
+        assertThat(statsFriends).isEqualTo(expectedFriends);
+
+        String indexResult = "skipped";
+        if (redisConnectionFactory != null) {
+            BeaconPresenceIndex index = presenceIndex();
+            Map<Long, Long> visitors = index.findVisitors(beaconIds);
+            assertThat(visitors.keySet().stream().filter(friendSet::contains).count()).isEqualTo(expectedFriends);
+            indexResult = String.format("%.3fms", measure(() -> index.findVisitors(beaconIds)));
+        }
+
+        System.out.printf("[FootprintBenchmark] posts=%d beacons=%d friends=%d visitors=%d | posts %.3fms | stats %.3fms | index %s%n",
+                POSTS, beaconIds.size(), FRIENDS, expectedFriends, legacyMs, statsMs, indexResult);
+    }
+
+    private BeaconPresenceIndex presenceIndex() {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        UserBeaconStatsRepository repository = mock(UserBeaconStatsRepository.class);
+        when(repository.findPresenceByBeaconIds(anyList())).thenAnswer(invocation -> jdbc.query(PRESENCE,
+                new MapSqlParameterSource("beaconIds", invocation.getArgument(0)),
+                (rs, rowNum) -> new Object[]{
+                        rs.getString("beacon_id"),
+                        rs.getLong("user_id"),
+                        rs.getTimestamp("latest_posted_at").toLocalDateTime()
+                }));
+
+        BeaconPresenceIndex index = new BeaconPresenceIndex(redisTemplate, repository);
+        index.evictAfterCommit(beaconPool);
+        return index;
+    }
+
+    private static void insertPosts(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        if (batch.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO posts (user_id, beacon_id, status, thumbnail_url, created_at) VALUES (?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private static double measure(Supplier<?> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS;
+    }
+}
@@ -0,0 +1,174 @@
+package com.teamloci.loci.domain.stat;
+
+import com.teamloci.loci.domain.stat.repository.UserBeaconStatsRepository;
+import com.teamloci.loci.domain.stat.repository.UserBeaconStatsRepositoryCustomImpl;
+import com.teamloci.loci.global.util.GeoUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 위경도 BETWEEN 스캔과 H3 커버링 셀 IN 조회를 같은 합성 데이터셋에서 비교한다.
+ * 실행: ./gradlew test --tests '*MapMarkerQueryBenchmark' -Dbenchmark=true -Dbenchmark.rows=2000000
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MapMarkerQueryBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 2_000_000);
+    private static final int USERS = 50_000;
+    private static final int FRIENDS = 300;
+    private static final int ITERATIONS = 20;
+    private static final int MAX_COVER_CELLS = 500;
+    private static final int LIMIT = 20;
+
+    private final GeoUtils geoUtils = new GeoUtils();
+    private SimpleDriverDataSource dataSource;
+    private NamedParameterJdbcTemplate jdbc;
+    private List<Long> friendIds;
+
+    @BeforeAll
+    void setUp() {
+        dataSource = new SimpleDriverDataSource(new org.h2.Driver(), "jdbc:h2:mem:marker_bench;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new NamedParameterJdbcTemplate(dataSource);
+        JdbcTemplate plain = jdbc.getJdbcTemplate();
+
+        plain.execute("""
+                CREATE TABLE user_beacon_stats (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    user_id BIGINT NOT NULL,
+                    beacon_id VARCHAR(64) NOT NULL,
+                    beacon_cell BIGINT,
+                    latitude DOUBLE,
+                    longitude DOUBLE,
+                    cell_r5 VARCHAR(64),
+                    cell_r7 VARCHAR(64),
+                    post_count BIGINT NOT NULL,
+                    latest_thumbnail_url VARCHAR(255),
+                    latest_posted_at TIMESTAMP
+                )""");
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < ROWS; i++) {
+            double lat = 33.0 + random.nextDouble() * 5.5;
+            double lon = 126.0 + random.nextDouble() * 3.5;
+            String beaconId = geoUtils.latLngToBeaconId(lat, lon);
+            GeoUtils.Pair<Double, Double> center = geoUtils.beaconIdToLatLng(beaconId);
+
+            batch.add(new Object[]{
+                    (long) random.nextInt(USERS) + 1, beaconId, center.lat, center.lng,
+                    geoUtils.toParentCell(beaconId, GeoUtils.REGION_RESOLUTION),
+                    geoUtils.toParentCell(beaconId, GeoUtils.CITY_RESOLUTION),
+                    (long) random.nextInt(5) + 1, "thumb-" + i,
+                    Timestamp.valueOf(now.minusMinutes(random.nextInt(500_000)))
+            });
+            if (batch.size() == 10_000) {
+                insert(plain, batch);
+            }
+        }
+        insert(plain, batch);
+
+        plain.execute("CREATE INDEX idx_user_beacon ON user_beacon_stats (user_id, beacon_id)");
+        plain.execute("CREATE INDEX idx_location ON user_beacon_stats (latitude, longitude)");
+        plain.execute("CREATE INDEX idx_beacon_user_posted_at ON user_beacon_stats (beacon_id, user_id, latest_posted_at)");
+        plain.execute("CREATE INDEX idx_user_cell_r5 ON user_beacon_stats (user_id, cell_r5)");
+        plain.execute("CREATE INDEX idx_user_cell_r7 ON user_beacon_stats (user_id, cell_r7)");
+
+        friendIds = new ArrayList<>();
+        for (long id = 1; id <= FRIENDS; id++) {
+            friendIds.add(id * (USERS / FRIENDS));
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbc.getJdbcTemplate().execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void compareViewportStrategies() throws Exception {
+        String areaSql = querySql("findMarkersByFriendsInArea", List.class, Double.class, Double.class, Double.class, Double.class, int.class);
+
+        double[][] viewports = {
+                {37.560, 37.570, 126.970, 126.985},
+                {37.450, 37.650, 126.850, 127.150},
+                {35.000, 37.700, 126.300, 129.300}
+        };
+
+        for (double[] v : viewports) {
+            GeoUtils.ViewportCover cover = geoUtils.coverViewport(v[0], v[1], v[2], v[3], GeoUtils.BEACON_RESOLUTION, MAX_COVER_CELLS);
+            assertThat(cover).isNotNull();
+            String cellSql = UserBeaconStatsRepositoryCustomImpl.markersInCellsSql(cover.resolution());
+
+            MapSqlParameterSource areaParams = new MapSqlParameterSource()
+                    .addValue("friendIds", friendIds)
+                    .addValue("minLat", v[0]).addValue("maxLat", v[1])
+                    .addValue("minLon", v[2]).addValue("maxLon", v[3]);
+            MapSqlParameterSource cellParams = new MapSqlParameterSource()
+                    .addValue("friendIds", friendIds)
+                    .addValue("cellIds", cover.cellIds());
+
+            Map<String, Long> areaAll = counts(jdbc.queryForList(areaSql, areaParams.addValue("limit", Integer.MAX_VALUE)));
+            Map<String, Long> cellAll = counts(jdbc.queryForList(cellSql, cellParams.addValue("limit", Integer.MAX_VALUE)));
+            assertThat(cellAll).containsAllEntriesOf(areaAll);
+
+            areaParams.addValue("limit", LIMIT);
+            cellParams.addValue("limit", LIMIT);
+            double areaMs = measure(() -> jdbc.queryForList(areaSql, areaParams));
+            double cellMs = measure(() -> jdbc.queryForList(cellSql, cellParams));
+
+            System.out.printf("[MapMarkerBenchmark] rows=%d viewport=%s res=%d cells=%d markers=%d | BETWEEN %.2fms | H3 IN %.2fms%n",
+                    ROWS, Arrays.toString(v), cover.resolution(), cover.cellIds().size(), areaAll.size(), areaMs, cellMs);
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        if (batch.isEmpty()) return;
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_beacon_stats
+                    (user_id, beacon_id, latitude, longitude, cell_r5, cell_r7, post_count, latest_thumbnail_url, latest_posted_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""", batch);
+        batch.clear();
+    }
+
+    private static String querySql(String method, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return UserBeaconStatsRepository.class.getMethod(method, parameterTypes).getAnnotation(Query.class).value();
+    }
+
+    private static Map<String, Long> counts(List<Map<String, Object>> rows) {
+        Map<String, Long> result = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            Iterator<Object> values = row.values().iterator();
+            result.put((String) values.next(), ((Number) values.next()).longValue());
+        }
+        return result;
+    }
+
+    private static double measure(Supplier<?> query) {
+        for (int i = 0; i < 3; i++) {
+            query.get();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS;
+    }
+}
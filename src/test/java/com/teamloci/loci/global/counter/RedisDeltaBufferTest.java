@@ -0,0 +1,186 @@
+package com.teamloci.loci.global.counter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * localhost:6379 의 Redis 가 필요하며, 접속할 수 없으면 건너뛴다.
+ */
+class RedisDeltaBufferTest {
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private String name;
+    private RedisDeltaBuffer buffer;
+
+    @BeforeAll
+    static void connect() {
+        try {
+            connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            try (var connection = connectionFactory.getConnection()) {
+                connection.ping();
+            }
+            redisTemplate = new StringRedisTemplate(connectionFactory);
+            redisTemplate.afterPropertiesSet();
+        } catch (Exception e) {
+            connectionFactory = null;
+        }
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(redisTemplate != null, "Redis is not available on localhost:6379");
+        name = "test:" + UUID.randomUUID();
+        buffer = new RedisDeltaBuffer(name, redisTemplate);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (redisTemplate != null) {
+            redisTemplate.delete(List.of(
+                    "counter:{" + name + "}:pending",
+                    "counter:{" + name + "}:flushing",
+                    "counter:{" + name + "}:batch"));
+        }
+    }
+
+    @Test
+    void beginFlushMovesPendingDeltasIntoABatch() {
+        buffer.add(1L, 3);
+        buffer.add(1L, -1);
+        buffer.add(2L, 5);
+
+        RedisDeltaBuffer.Batch batch = buffer.beginFlush().orElseThrow();
+
+        assertThat(batch.deltas()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 5L));
+        assertThat(buffer.pendingDeltas(List.of(1L, 2L), id -> false)).containsEntry(1L, 2L).containsEntry(2L, 5L);
+    }
+
+    @Test
+    void beginFlushWithNothingPendingReturnsEmpty() {
+        assertThat(buffer.beginFlush()).isEmpty();
+    }
+
+    @Test
+    void inFlightBatchIsReturnedAgainUntilCompleted() {
+        buffer.add(1L, 1);
+        RedisDeltaBuffer.Batch first = buffer.beginFlush().orElseThrow();
+
+        buffer.add(1L, 10);
+        RedisDeltaBuffer.Batch retried = buffer.beginFlush().orElseThrow();
+
+        assertThat(retried.id()).isEqualTo(first.id());
+        assertThat(retried.deltas()).containsExactlyEntriesOf(Map.of(1L, 1L));
+    }
+
+    @Test
+    void completingAStaleBatchDoesNotDeleteTheCurrentOne() {
+        buffer.add(1L, 1);
+        RedisDeltaBuffer.Batch first = buffer.beginFlush().orElseThrow();
+        assertThat(buffer.completeFlush(first.id())).isTrue();
+
+        buffer.add(1L, 7);
+        RedisDeltaBuffer.Batch second = buffer.beginFlush().orElseThrow();
+
+        assertThat(buffer.completeFlush(first.id())).isFalse();
+        assertThat(buffer.beginFlush().orElseThrow()).isEqualTo(second);
+        assertThat(buffer.completeFlush(second.id())).isTrue();
+        assertThat(buffer.beginFlush()).isEmpty();
+    }
+
+    @Test
+    void pendingDeltasSkipsABatchThatIsAlreadyApplied() {
+        buffer.add(1L, 4);
+        RedisDeltaBuffer.Batch batch = buffer.beginFlush().orElseThrow();
+        buffer.add(1L, 2);
+
+        assertThat(buffer.pendingDeltas(List.of(1L), id -> false)).containsExactlyEntriesOf(Map.of(1L, 6L));
+        assertThat(buffer.pendingDeltas(List.of(1L), batch.id()::equals)).containsExactlyEntriesOf(Map.of(1L, 2L));
+        assertThat(buffer.pendingDeltas(List.of(3L), id -> false)).isEmpty();
+    }
+
+    @Test
+    void drainRangeRemovesOnlyTheRequestedIdsAndRestorePutsThemBack() {
+        buffer.add(999L, 1);
+        buffer.add(1000L, 2);
+        buffer.add(1999L, -1);
+        buffer.add(2000L, 4);
+
+        Map<Long, Long> drained = buffer.drainRange(1000L, 2000L);
+
+        assertThat(drained).containsExactlyInAnyOrderEntriesOf(Map.of(1000L, 2L, 1999L, -1L));
+        assertThat(buffer.pendingDeltas(List.of(999L, 1000L, 1999L, 2000L), id -> false))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(999L, 1L, 2000L, 4L));
+
+        buffer.add(1000L, 3);
+        buffer.restore(drained);
+
+        assertThat(buffer.pendingDeltas(List.of(1000L, 1999L), id -> false))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(1000L, 5L, 1999L, -1L));
+    }
+
+    @Test
+    void flusherAppliesAClaimedBatchOnceAndCompletesIt() {
+        CounterFlushLogRepository flushLog = mock(CounterFlushLogRepository.class);
+        Set<String> claimed = new HashSet<>();
+        when(flushLog.claim(anyString(), anyString())).thenAnswer(invocation ->
+                claimed.add(invocation.getArgument(0)) ? 1 : 0);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        DeltaBufferFlusher flusher = new DeltaBufferFlusher(flushLog, transactionManager, new SimpleMeterRegistry());
+
+        buffer.add(1L, 2);
+        List<Map<Long, Long>> applied = new ArrayList<>();
+        flusher.flush(buffer, applied::add);
+
+        assertThat(applied).containsExactly(Map.of(1L, 2L));
+        assertThat(buffer.beginFlush()).isEmpty();
+    }
+
+    @Test
+    void flusherSkipsABatchThatAnotherNodeAlreadyApplied() {
+        buffer.add(1L, 2);
+        RedisDeltaBuffer.Batch inFlight = buffer.beginFlush().orElseThrow();
+
+        CounterFlushLogRepository flushLog = mock(CounterFlushLogRepository.class);
+        when(flushLog.claim(eq(inFlight.id()), anyString())).thenReturn(0);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        DeltaBufferFlusher flusher = new DeltaBufferFlusher(flushLog, transactionManager, new SimpleMeterRegistry());
+
+        List<Map<Long, Long>> applied = new ArrayList<>();
+        flusher.flush(buffer, applied::add);
+
+        assertThat(applied).isEmpty();
+        assertThat(buffer.beginFlush()).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.teamloci.loci.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongHashSetTest {
+
+    @Test
+    void addAndContains() {
+        LongHashSet set = new LongHashSet();
+
+        assertThat(set.add(42L)).isTrue();
+        assertThat(set.add(42L)).isFalse();
+        assertThat(set.contains(42L)).isTrue();
+        assertThat(set.contains(43L)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroIsStoredOutsideTheTable() {
+        LongHashSet set = new LongHashSet();
+
+        assertThat(set.contains(0L)).isFalse();
+        assertThat(set.add(0L)).isTrue();
+        assertThat(set.add(0L)).isFalse();
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(set.toArray()).containsExactly(0L);
+    }
+
+    @Test
+    void negativeAndExtremeValues() {
+        LongHashSet set = LongHashSet.of(new long[]{-1L, Long.MIN_VALUE, Long.MAX_VALUE});
+
+        assertThat(set.contains(-1L)).isTrue();
+        assertThat(set.contains(Long.MIN_VALUE)).isTrue();
+        assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+        assertThat(set.contains(1L)).isFalse();
+    }
+
+    @Test
+    void growsPastInitialCapacityWithoutLosingValues() {
+        LongHashSet set = new LongHashSet(2);
+        for (long i = 1; i <= 10_000; i++) {
+            set.add(i * 31);
+        }
+
+        assertThat(set.size()).isEqualTo(10_000);
+        for (long i = 1; i <= 10_000; i++) {
+            assertThat(set.contains(i * 31)).isTrue();
+            assertThat(set.contains(i * 31 + 1)).isFalse();
+        }
+    }
+
+    @Test
+    void matchesJavaHashSetOnRandomInput() {
+        Random random = new Random(7);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            long value = random.nextInt(20_000) - 1_000;
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(set.toArray()).containsExactlyInAnyOrder(expected.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    @Test
+    void ofDeduplicatesInput() {
+        LongHashSet set = LongHashSet.of(new long[]{5L, 5L, 7L, 0L, 0L});
+
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.toArray()).containsExactlyInAnyOrder(0L, 5L, 7L);
+        assertThat(new LongHashSet().isEmpty()).isTrue();
+    }
+}